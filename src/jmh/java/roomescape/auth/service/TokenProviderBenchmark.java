@@ -0,0 +1,36 @@
+package roomescape.auth.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+    private static final String SECRET_KEY = "this-is-benchmark-secret-key-this-is-benchmark-secret-key";
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new TokenProvider(SECRET_KEY);
+        token = tokenProvider.createToken(1L);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(1L);
+    }
+
+    @Benchmark
+    public Long findMemberId() {
+        return tokenProvider.findMemberId(token);
+    }
+}
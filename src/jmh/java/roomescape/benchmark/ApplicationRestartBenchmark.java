@@ -0,0 +1,98 @@
+package roomescape.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+import roomescape.RoomescapeApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class ApplicationRestartBenchmark {
+    private static final String DATABASE_OPTIONS = ";CACHE_SIZE=65536;WRITE_DELAY=500;MAX_COMPACT_TIME=2000;DB_CLOSE_ON_EXIT=FALSE";
+    private static final int BATCH_SIZE = 5000;
+
+    @Param({"1000", "100000"})
+    private int reservationCount;
+
+    private Path databaseDirectory;
+    private String databaseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseDirectory = Files.createTempDirectory("roomescape-restart");
+        databaseUrl = "jdbc:h2:file:" + databaseDirectory.resolve("roomescape") + DATABASE_OPTIONS;
+        try (ConfigurableApplicationContext context = start()) {
+            seed(context.getBean(JdbcTemplate.class));
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Long> timeIds = jdbcTemplate.queryForList("SELECT id FROM reservation_time", Long.class);
+        List<Long> themeIds = jdbcTemplate.queryForList("SELECT id FROM theme", Long.class);
+        int slotsPerDay = timeIds.size() * themeIds.size();
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int index = 0; index < reservationCount; index++) {
+            int slot = index % slotsPerDay;
+            batch.add(new Object[]{
+                    1L,
+                    LocalDate.now().plusDays(index / slotsPerDay),
+                    timeIds.get(slot / themeIds.size()),
+                    themeIds.get(slot % themeIds.size())});
+            if (batch.size() == BATCH_SIZE) {
+                insertReservations(jdbcTemplate, batch);
+            }
+        }
+        insertReservations(jdbcTemplate, batch);
+    }
+
+    private void insertReservations(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reservation(member_id, date, time_id, theme_id) VALUES (?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    @Benchmark
+    public void restart() {
+        start().close();
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(RoomescapeApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("file")
+                .properties(
+                        "spring.datasource.url=" + databaseUrl,
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(databaseDirectory);
+    }
+}
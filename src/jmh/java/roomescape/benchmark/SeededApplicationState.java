@@ -0,0 +1,84 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.RoomescapeApplication;
+
+@State(Scope.Benchmark)
+public class SeededApplicationState {
+    public static final long MEMBER_ID = 2L;
+    public static final long THEME_ID = 1L;
+    public static final LocalDate TARGET_DATE = LocalDate.now().plusDays(2);
+
+    private static final int EXTRA_TIME_COUNT = 22;
+    private static final int THEME_COUNT = 3;
+    private static final int MEMBER_COUNT = 4;
+    private static final int DAY_COUNT = 30;
+    private static final int WAITING_COUNT = 200;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RoomescapeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> times = new ArrayList<>();
+        for (int hour = 0; times.size() < EXTRA_TIME_COUNT; hour++) {
+            if (hour != 10 && hour != 19) {
+                times.add(new Object[]{LocalTime.of(hour, 30)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_time(start_at) VALUES (?)", times);
+
+        Long timeCount = jdbcTemplate.queryForObject("SELECT count(*) FROM reservation_time", Long.class);
+        List<Object[]> reservations = new ArrayList<>();
+        for (int day = 2; day < DAY_COUNT + 2; day++) {
+            for (long timeId = 1; timeId <= timeCount; timeId++) {
+                for (long themeId = 1; themeId <= THEME_COUNT; themeId++) {
+                    long memberId = reservations.size() % MEMBER_COUNT + 1;
+                    reservations.add(new Object[]{memberId, LocalDate.now().plusDays(day), timeId, themeId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reservation(member_id, date, time_id, theme_id) VALUES (?, ?, ?, ?)", reservations);
+
+        List<Long> othersReservationIds = jdbcTemplate.queryForList(
+                "SELECT id FROM reservation WHERE member_id <> ? ORDER BY id LIMIT ?",
+                Long.class, MEMBER_ID, WAITING_COUNT);
+        List<Object[]> waitings = othersReservationIds.stream()
+                .map(reservationId -> new Object[]{reservationId, MEMBER_ID})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO waiting(reservation_id, member_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)", waitings);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
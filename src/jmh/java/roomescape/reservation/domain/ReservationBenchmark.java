@@ -0,0 +1,44 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.member.domain.Member;
+import roomescape.theme.domain.Theme;
+import roomescape.time.domain.ReservationTime;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationBenchmark {
+    private static final LocalDateTime CURRENT_DATE_TIME = LocalDateTime.of(2024, 5, 20, 12, 0);
+
+    @Param({"-1", "0", "1"})
+    private int dayOffset;
+
+    private Reservation reservation;
+
+    @Setup
+    public void setUp() {
+        LocalDate date = CURRENT_DATE_TIME.toLocalDate().plusDays(dayOffset);
+        reservation = new Reservation(1L,
+                new Member(1L, "브라운", "brown@abc.com"),
+                date,
+                new ReservationTime(1L, LocalTime.of(19, 0)),
+                new Theme(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg"));
+    }
+
+    @Benchmark
+    public boolean isBefore() {
+        return reservation.isBefore(CURRENT_DATE_TIME);
+    }
+}
@@ -0,0 +1,94 @@
+package roomescape.reservation.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.member.dto.MemberResponse;
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.time.dto.AvailableTimeResponse;
+import roomescape.time.dto.TimeResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationResponseEncodingBenchmark {
+    private static final String THUMBNAIL = "https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg";
+    private static final int COUNT_OF_TIME = 24;
+    private static final TypeReference<List<ReservationResponse>> RESERVATIONS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<AvailableTimeResponse>> AVAILABLE_TIMES_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+    @Param({"10", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ReservationResponse> reservationResponses;
+    private List<AvailableTimeResponse> availableTimeResponses;
+    private byte[] encodedReservations;
+    private byte[] encodedAvailableTimes;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = createObjectMapper(format);
+        reservationResponses = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new ReservationResponse(id,
+                        new MemberResponse(id % 4 + 1, "브라운"),
+                        LocalDate.of(2024, 8, 15).plusDays(id),
+                        new TimeResponse(id % 2 + 1, LocalTime.of(19, 0)),
+                        new ThemeResponse(id % 3 + 1, "레벨2 탈출", "우테코 레벨2 탈출기!", THUMBNAIL)))
+                .toList();
+        availableTimeResponses = LongStream.rangeClosed(1, COUNT_OF_TIME)
+                .mapToObj(id -> new AvailableTimeResponse(
+                        new TimeResponse(id, LocalTime.of((int) id - 1, 0)), id % 2 == 0))
+                .toList();
+        encodedReservations = objectMapper.writeValueAsBytes(reservationResponses);
+        encodedAvailableTimes = objectMapper.writeValueAsBytes(availableTimeResponses);
+    }
+
+    @Benchmark
+    public byte[] encodeReservations() throws IOException {
+        return objectMapper.writeValueAsBytes(reservationResponses);
+    }
+
+    @Benchmark
+    public List<ReservationResponse> decodeReservations() throws IOException {
+        return objectMapper.readValue(encodedReservations, RESERVATIONS_TYPE);
+    }
+
+    @Benchmark
+    public byte[] encodeAvailableTimes() throws IOException {
+        return objectMapper.writeValueAsBytes(availableTimeResponses);
+    }
+
+    @Benchmark
+    public List<AvailableTimeResponse> decodeAvailableTimes() throws IOException {
+        return objectMapper.readValue(encodedAvailableTimes, AVAILABLE_TIMES_TYPE);
+    }
+
+    private ObjectMapper createObjectMapper(String format) {
+        return switch (format) {
+            case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+            case "smile" -> SmileMapper.builder().findAndAddModules().build();
+            default -> JsonMapper.builder().findAndAddModules().build();
+        };
+    }
+}
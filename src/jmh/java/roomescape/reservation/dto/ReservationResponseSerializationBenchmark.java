@@ -0,0 +1,62 @@
+package roomescape.reservation.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.member.dto.MemberResponse;
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.time.dto.TimeResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationResponseSerializationBenchmark {
+    private static final String THUMBNAIL = "https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg";
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+    private List<ReservationResponse> reservationResponses;
+    private List<MyReservationResponse> myReservationResponses;
+
+    @Setup
+    public void setUp() {
+        reservationResponses = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new ReservationResponse(id,
+                        new MemberResponse(id % 4 + 1, "브라운"),
+                        LocalDate.of(2024, 8, 15).plusDays(id),
+                        new TimeResponse(id % 2 + 1, LocalTime.of(19, 0)),
+                        new ThemeResponse(id % 3 + 1, "레벨2 탈출", "우테코 레벨2 탈출기!", THUMBNAIL)))
+                .toList();
+        myReservationResponses = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new MyReservationResponse(id, "레벨2 탈출",
+                        LocalDate.of(2024, 8, 15).plusDays(id), LocalTime.of(19, 0), "1번째 예약 대기", id))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeReservationResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reservationResponses);
+    }
+
+    @Benchmark
+    public byte[] serializeMyReservationResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(myReservationResponses);
+    }
+}
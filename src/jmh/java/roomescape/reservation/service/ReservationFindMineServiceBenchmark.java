@@ -0,0 +1,22 @@
+package roomescape.reservation.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import roomescape.benchmark.SeededApplicationState;
+import roomescape.reservation.dto.MyReservationResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReservationFindMineServiceBenchmark {
+
+    @Benchmark
+    public List<MyReservationResponse> findMyReservations(SeededApplicationState state) {
+        return state.getBean(ReservationFindMineService.class)
+                .findMyReservations(SeededApplicationState.MEMBER_ID)
+                .join();
+    }
+}
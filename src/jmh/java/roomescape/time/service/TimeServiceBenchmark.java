@@ -0,0 +1,21 @@
+package roomescape.time.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import roomescape.benchmark.SeededApplicationState;
+import roomescape.time.dto.AvailableTimeResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeServiceBenchmark {
+
+    @Benchmark
+    public List<AvailableTimeResponse> findAvailableTimes(SeededApplicationState state) {
+        return state.getBean(TimeService.class)
+                .findAvailableTimes(SeededApplicationState.TARGET_DATE, SeededApplicationState.THEME_ID);
+    }
+}
@@ -0,0 +1,78 @@
+package roomescape.loadtest;
+
+import java.util.Arrays;
+
+public class EndpointStatistics {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private long[] latencies = new long[INITIAL_CAPACITY];
+    private int size;
+    private long successCount;
+    private long clientErrorCount;
+    private long serverErrorCount;
+    private long connectionErrorCount;
+
+    public void record(int status, long latencyNanos) {
+        if (status >= 500) {
+            serverErrorCount++;
+        } else if (status >= 400) {
+            clientErrorCount++;
+        } else {
+            successCount++;
+        }
+        addLatency(latencyNanos);
+    }
+
+    public void recordConnectionError(long latencyNanos) {
+        connectionErrorCount++;
+        addLatency(latencyNanos);
+    }
+
+    private void addLatency(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    public void merge(EndpointStatistics other) {
+        for (int i = 0; i < other.size; i++) {
+            addLatency(other.latencies[i]);
+        }
+        successCount += other.successCount;
+        clientErrorCount += other.clientErrorCount;
+        serverErrorCount += other.serverErrorCount;
+        connectionErrorCount += other.connectionErrorCount;
+    }
+
+    public double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(index, 0)] / NANOS_PER_MILLI;
+    }
+
+    public long getCount() {
+        return size;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public long getClientErrorCount() {
+        return clientErrorCount;
+    }
+
+    public long getServerErrorCount() {
+        return serverErrorCount;
+    }
+
+    public long getConnectionErrorCount() {
+        return connectionErrorCount;
+    }
+}
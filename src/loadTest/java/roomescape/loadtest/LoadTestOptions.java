@@ -0,0 +1,24 @@
+package roomescape.loadtest;
+
+import java.time.Duration;
+
+public record LoadTestOptions(int concurrency,
+                              Duration warmup,
+                              Duration duration,
+                              double hotSlotRatio,
+                              int memberCount,
+                              int dayCount,
+                              String profiles) {
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.getInteger(PREFIX + "concurrency", 32),
+                Duration.ofSeconds(Long.getLong(PREFIX + "warmup-seconds", 10L)),
+                Duration.ofSeconds(Long.getLong(PREFIX + "duration-seconds", 60L)),
+                Double.parseDouble(System.getProperty(PREFIX + "hot-slot-ratio", "0.3")),
+                Integer.getInteger(PREFIX + "members", 200),
+                Integer.getInteger(PREFIX + "days", 14),
+                System.getProperty(PREFIX + "profiles", ""));
+    }
+}
@@ -0,0 +1,109 @@
+package roomescape.loadtest;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.RoomescapeApplication;
+
+public class LoadTestRunner {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(15);
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        try (ConfigurableApplicationContext context = startApplication(options)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadTestSeeder seeder = new LoadTestSeeder(context.getBean(JdbcTemplate.class));
+            List<String> emails = seeder.seedMembers(options.memberCount());
+            SlotPicker slotPicker = new SlotPicker(LocalDate.now().plusDays(1), options.dayCount(),
+                    seeder.seedTimes(), seeder.findThemeIds(), options.hotSlotRatio());
+
+            Map<Operation, EndpointStatistics> statistics = run(options, baseUrl, emails, slotPicker);
+            printReport(System.out, options, statistics);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options) {
+        return new SpringApplicationBuilder(RoomescapeApplication.class)
+                .profiles(options.profiles().isBlank() ? new String[0] : options.profiles().split(","))
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "roomescape.auth.rate-limit.ip.capacity=1000000",
+                        "roomescape.booking.rate-limit.limit=1000000",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    private static Map<Operation, EndpointStatistics> run(LoadTestOptions options, String baseUrl,
+                                                           List<String> emails, SlotPicker slotPicker)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        long measureStartNanos = System.nanoTime() + options.warmup().toNanos();
+        long endNanos = measureStartNanos + options.duration().toNanos();
+
+        List<LoadTestWorker> workers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            LoadTestWorker worker = new LoadTestWorker(client, baseUrl, emails.get(i % emails.size()),
+                    slotPicker, measureStartNanos, endNanos);
+            workers.add(worker);
+            executor.execute(worker);
+        }
+        executor.shutdown();
+        long timeoutNanos = endNanos - System.nanoTime() + SHUTDOWN_GRACE.toNanos();
+        if (!executor.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            executor.shutdownNow();
+        }
+
+        Map<Operation, EndpointStatistics> merged = new EnumMap<>(Operation.class);
+        workers.forEach(worker -> worker.getStatistics().forEach((operation, statistic) ->
+                merged.computeIfAbsent(operation, key -> new EndpointStatistics()).merge(statistic)));
+        return merged;
+    }
+
+    private static void printReport(PrintStream out, LoadTestOptions options,
+                                    Map<Operation, EndpointStatistics> statistics) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        out.printf("concurrency=%d, duration=%ss, hotSlotRatio=%.2f, profiles=%s%n",
+                options.concurrency(), seconds, options.hotSlotRatio(), options.profiles());
+        out.printf("%-28s %9s %8s %8s %8s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "2xx", "4xx", "5xx", "io", "req/s", "p50(ms)", "p90(ms)", "p99(ms)",
+                "max(ms)");
+
+        EndpointStatistics total = new EndpointStatistics();
+        statistics.forEach((operation, statistic) -> {
+            printRow(out, operation.getEndpoint(), statistic, seconds);
+            total.merge(statistic);
+        });
+        printRow(out, "total", total, seconds);
+    }
+
+    private static void printRow(PrintStream out, String name, EndpointStatistics statistic, double seconds) {
+        out.printf("%-28s %9d %8d %8d %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                statistic.getCount(),
+                statistic.getSuccessCount(),
+                statistic.getClientErrorCount(),
+                statistic.getServerErrorCount(),
+                statistic.getConnectionErrorCount(),
+                statistic.getCount() / seconds,
+                statistic.percentileMillis(0.50),
+                statistic.percentileMillis(0.90),
+                statistic.percentileMillis(0.99),
+                statistic.percentileMillis(1.0));
+    }
+}
@@ -0,0 +1,41 @@
+package roomescape.loadtest;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class LoadTestSeeder {
+    public static final String PASSWORD = "1234";
+    private static final String ENCODED_PASSWORD = "$2a$10$Yujycz88cJerr/KEvt.33edV7kZl0YzWKJ5qnxIrJSxsCmmCIRyWi";
+    private static final List<Integer> EXTRA_HOURS = List.of(11, 12, 13, 14, 15, 16, 17, 18, 20, 21, 22);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<String> seedMembers(int memberCount) {
+        List<String> emails = IntStream.rangeClosed(1, memberCount)
+                .mapToObj(index -> "loaduser" + index + "@load.test")
+                .toList();
+        List<Object[]> members = IntStream.range(0, memberCount)
+                .mapToObj(index -> new Object[]{"부하" + (index + 1), emails.get(index), "USER", ENCODED_PASSWORD})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO member(name, email, role, password) VALUES (?, ?, ?, ?)", members);
+        return emails;
+    }
+
+    public List<Long> seedTimes() {
+        List<Object[]> times = EXTRA_HOURS.stream()
+                .map(hour -> new Object[]{LocalTime.of(hour, 0)})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_time(start_at) VALUES (?)", times);
+        return jdbcTemplate.queryForList("SELECT id FROM reservation_time ORDER BY start_at", Long.class);
+    }
+
+    public List<Long> findThemeIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM theme ORDER BY id", Long.class);
+    }
+}
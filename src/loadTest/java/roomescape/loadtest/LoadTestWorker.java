@@ -0,0 +1,139 @@
+package roomescape.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+public class LoadTestWorker implements Runnable {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String LOGIN_BODY_FORMAT = "{\"email\":\"%s\",\"password\":\"%s\"}";
+    private static final String SLOT_BODY_FORMAT = "{\"date\":\"%s\",\"timeId\":%d,\"themeId\":%d}";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String email;
+    private final SlotPicker slotPicker;
+    private final long measureStartNanos;
+    private final long endNanos;
+    private final Map<Operation, EndpointStatistics> statistics = new EnumMap<>(Operation.class);
+    private final Deque<String> waitingLocations = new ArrayDeque<>();
+    private final Random random = new Random();
+    private String cookie = "";
+
+    public LoadTestWorker(HttpClient client, String baseUrl, String email, SlotPicker slotPicker,
+                          long measureStartNanos, long endNanos) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.slotPicker = slotPicker;
+        this.measureStartNanos = measureStartNanos;
+        this.endNanos = endNanos;
+    }
+
+    @Override
+    public void run() {
+        execute(Operation.LOGIN);
+        while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+            execute(Operation.pick(random));
+        }
+    }
+
+    private void execute(Operation operation) {
+        if (operation == Operation.CANCEL_WAITING && waitingLocations.isEmpty()) {
+            return;
+        }
+        HttpRequest request = createRequest(operation);
+        long startNanos = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+            findStatistics(operation, startNanos).ifPresent(statistic ->
+                    statistic.record(response.statusCode(), System.nanoTime() - startNanos));
+            handleResponse(operation, response);
+        } catch (IOException e) {
+            findStatistics(operation, startNanos).ifPresent(statistic ->
+                    statistic.recordConnectionError(System.nanoTime() - startNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<EndpointStatistics> findStatistics(Operation operation, long startNanos) {
+        if (startNanos < measureStartNanos) {
+            return Optional.empty();
+        }
+        return Optional.of(statistics.computeIfAbsent(operation, key -> new EndpointStatistics()));
+    }
+
+    private HttpRequest createRequest(Operation operation) {
+        return switch (operation) {
+            case LOGIN -> post("/login", LOGIN_BODY_FORMAT.formatted(email, LoadTestSeeder.PASSWORD));
+            case POPULAR_THEMES -> get("/themes/popular");
+            case AVAILABLE_TIMES -> {
+                Slot slot = slotPicker.pick(random);
+                yield get("/times/available?date=%s&themeId=%d".formatted(slot.date(), slot.themeId()));
+            }
+            case CREATE_RESERVATION -> post("/reservations", createSlotBody(slotPicker.pick(random)));
+            case CREATE_WAITING -> post("/waitings", createSlotBody(slotPicker.pick(random)));
+            case MY_RESERVATIONS -> get("/reservations/accounts");
+            case CANCEL_WAITING -> delete(waitingLocations.poll());
+        };
+    }
+
+    private String createSlotBody(Slot slot) {
+        LocalDate date = slot.date();
+        return SLOT_BODY_FORMAT.formatted(date, slot.timeId(), slot.themeId());
+    }
+
+    private HttpRequest get(String path) {
+        return newRequest(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return newRequest(path)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest delete(String path) {
+        return newRequest(path).DELETE().build();
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT);
+        if (!cookie.isEmpty()) {
+            builder.header("Cookie", cookie);
+        }
+        return builder;
+    }
+
+    private void handleResponse(Operation operation, HttpResponse<String> response) {
+        if (operation == Operation.LOGIN) {
+            response.headers()
+                    .firstValue("Set-Cookie")
+                    .ifPresent(setCookie -> cookie = setCookie.split(";")[0]);
+        }
+        if (operation == Operation.CREATE_WAITING && response.statusCode() == 201) {
+            response.headers()
+                    .firstValue("Location")
+                    .ifPresent(waitingLocations::add);
+        }
+    }
+
+    public Map<Operation, EndpointStatistics> getStatistics() {
+        return statistics;
+    }
+}
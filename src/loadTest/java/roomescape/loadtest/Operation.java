@@ -0,0 +1,42 @@
+package roomescape.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public enum Operation {
+    LOGIN("POST /login", 5),
+    POPULAR_THEMES("GET /themes/popular", 20),
+    AVAILABLE_TIMES("GET /times/available", 30),
+    CREATE_RESERVATION("POST /reservations", 12),
+    CREATE_WAITING("POST /waitings", 8),
+    MY_RESERVATIONS("GET /reservations/accounts", 15),
+    CANCEL_WAITING("DELETE /waitings/{id}", 10),
+    ;
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(values())
+            .mapToInt(operation -> operation.weight)
+            .sum();
+
+    private final String endpoint;
+    private final int weight;
+
+    Operation(String endpoint, int weight) {
+        this.endpoint = endpoint;
+        this.weight = weight;
+    }
+
+    public static Operation pick(Random random) {
+        int point = random.nextInt(TOTAL_WEIGHT);
+        for (Operation operation : values()) {
+            point -= operation.weight;
+            if (point < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
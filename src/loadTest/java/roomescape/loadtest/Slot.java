@@ -0,0 +1,6 @@
+package roomescape.loadtest;
+
+import java.time.LocalDate;
+
+public record Slot(LocalDate date, Long timeId, Long themeId) {
+}
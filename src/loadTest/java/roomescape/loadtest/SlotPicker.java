@@ -0,0 +1,39 @@
+package roomescape.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+public class SlotPicker {
+    private static final int HOT_SLOT_COUNT = 3;
+
+    private final LocalDate startDate;
+    private final int dayCount;
+    private final List<Long> timeIds;
+    private final List<Long> themeIds;
+    private final double hotSlotRatio;
+    private final List<Slot> hotSlots;
+
+    public SlotPicker(LocalDate startDate, int dayCount, List<Long> timeIds, List<Long> themeIds,
+                      double hotSlotRatio) {
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.timeIds = timeIds;
+        this.themeIds = themeIds;
+        this.hotSlotRatio = hotSlotRatio;
+        this.hotSlots = timeIds.stream()
+                .limit(HOT_SLOT_COUNT)
+                .map(timeId -> new Slot(startDate, timeId, themeIds.get(0)))
+                .toList();
+    }
+
+    public Slot pick(Random random) {
+        if (random.nextDouble() < hotSlotRatio) {
+            return hotSlots.get(random.nextInt(hotSlots.size()));
+        }
+        return new Slot(
+                startDate.plusDays(random.nextInt(dayCount)),
+                timeIds.get(random.nextInt(timeIds.size())),
+                themeIds.get(random.nextInt(themeIds.size())));
+    }
+}
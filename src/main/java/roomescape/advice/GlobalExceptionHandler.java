@@ -1,54 +1,109 @@
 package roomescape.advice;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import roomescape.advice.dto.ErrorResponse;
 import roomescape.auth.exception.AdminAuthorizationException;
 import roomescape.auth.exception.AuthenticationException;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+import roomescape.exception.TooManyRequestsException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
-    private static final String NULL_POINTER_EXCEPTION_ERROR_MESSAGE = "잘못된 요청입니다.";
-    private static final String DATA_INTEGRITY_VIOLATION_EXCEPTION_ERROR_MESSAGE = "잘못된 요청입니다.";
-    private static final String UNEXPECTED_EXCEPTION_ERROR_MESSAGE = "예상치 못한 예외가 발생했습니다. 관리자에게 문의하세요.";
+    private static final String ERROR_RESPONSE_METRIC_NAME = "roomescape.error.response";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ErrorCode, ResponseEntity<ErrorResponse>> errorResponses = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCounterKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry,
+                                  @Value("${roomescape.admission.retry-after-seconds}") int retryAfterSeconds) {
+        this.meterRegistry = meterRegistry;
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorResponses.put(errorCode, ResponseEntity.status(errorCode.getStatus())
+                    .body(ErrorResponse.from(errorCode)));
+        }
+        errorResponses.put(ErrorCode.SERVICE_UNAVAILABLE, ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ErrorResponse.from(ErrorCode.SERVICE_UNAVAILABLE)));
+    }
 
     @ExceptionHandler(BadArgumentRequestException.class)
     public ResponseEntity<ErrorResponse> handleBadArgumentRequestException(BadArgumentRequestException e) {
-        return ResponseEntity.badRequest()
-                .body(new ErrorResponse(e.getMessage()));
+        return createErrorResponse(e.getErrorCode(), e);
     }
 
     @ExceptionHandler(NullPointerException.class)
     public ResponseEntity<ErrorResponse> handleNullPointerException(NullPointerException e) {
-        return ResponseEntity.badRequest()
-                .body(new ErrorResponse(NULL_POINTER_EXCEPTION_ERROR_MESSAGE));
+        return createErrorResponse(ErrorCode.INVALID_REQUEST, e);
     }
 
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException e) {
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(new ErrorResponse(e.getMessage()));
+        return createErrorResponse(e.getErrorCode(), e);
     }
 
     @ExceptionHandler(AdminAuthorizationException.class)
     public ResponseEntity<ErrorResponse> handleAdminAuthorizationException(AdminAuthorizationException e) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                .body(new ErrorResponse(e.getMessage()));
+        return createErrorResponse(e.getErrorCode(), e);
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
-        return ResponseEntity.badRequest()
-                .body(new ErrorResponse(DATA_INTEGRITY_VIOLATION_EXCEPTION_ERROR_MESSAGE));
+        return createErrorResponse(ErrorCode.INVALID_REQUEST, e);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        countErrorResponse(errorCode, e);
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponses.get(errorCode).getBody());
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+            RejectedExecutionException.class})
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(RuntimeException e) {
+        return createErrorResponse(ErrorCode.SERVICE_UNAVAILABLE, e);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleUnexpectedException(Exception e) {
-        return ResponseEntity.internalServerError()
-                .body(new ErrorResponse(UNEXPECTED_EXCEPTION_ERROR_MESSAGE));
+        return createErrorResponse(ErrorCode.UNEXPECTED_ERROR, e);
+    }
+
+    private ResponseEntity<ErrorResponse> createErrorResponse(ErrorCode errorCode, Exception e) {
+        countErrorResponse(errorCode, e);
+        return errorResponses.get(errorCode);
+    }
+
+    private void countErrorResponse(ErrorCode errorCode, Exception e) {
+        errorCounters.computeIfAbsent(new ErrorCounterKey(errorCode, e.getClass()), this::registerErrorCounter)
+                .increment();
+    }
+
+    private Counter registerErrorCounter(ErrorCounterKey key) {
+        return meterRegistry.counter(ERROR_RESPONSE_METRIC_NAME,
+                "status", String.valueOf(key.errorCode().getStatus().value()),
+                "code", key.errorCode().name(),
+                "exception", key.exceptionType().getSimpleName());
+    }
+
+    private record ErrorCounterKey(ErrorCode errorCode, Class<?> exceptionType) {
     }
 }
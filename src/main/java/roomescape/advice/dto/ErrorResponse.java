@@ -1,4 +1,9 @@
 package roomescape.advice.dto;
 
-public record ErrorResponse(String errorMessage) {
+import roomescape.exception.ErrorCode;
+
+public record ErrorResponse(String code, String errorMessage) {
+    public static ErrorResponse from(ErrorCode errorCode) {
+        return new ErrorResponse(errorCode.name(), errorCode.getMessage());
+    }
 }
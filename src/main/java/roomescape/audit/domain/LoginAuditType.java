@@ -0,0 +1,6 @@
+package roomescape.audit.domain;
+
+public enum LoginAuditType {
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED
+}
@@ -0,0 +1,7 @@
+package roomescape.audit.dto;
+
+import java.time.LocalDateTime;
+import roomescape.audit.domain.LoginAuditType;
+
+public record LoginAuditEvent(LoginAuditType type, Long memberId, String email, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,50 @@
+package roomescape.audit.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import roomescape.audit.dto.LoginAuditEvent;
+
+@Repository
+public class LoginAuditBatchRepository {
+    private static final String INSERT_LOGIN_AUDIT_SQL = """
+            INSERT INTO login_audit(type, member_id, email, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String MERGE_LAST_SEEN_SQL = """
+            MERGE INTO member_last_seen(member_id, last_seen_at)
+            KEY(member_id)
+            VALUES (?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoginAuditBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void saveAll(List<LoginAuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> arguments = events.stream()
+                .map(event -> new Object[]{event.type().name(), event.memberId(), event.email(),
+                        Timestamp.valueOf(event.occurredAt())})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_LOGIN_AUDIT_SQL, arguments);
+    }
+
+    public void updateLastSeen(Map<Long, LocalDateTime> lastSeenByMemberId) {
+        if (lastSeenByMemberId.isEmpty()) {
+            return;
+        }
+        List<Object[]> arguments = new ArrayList<>();
+        lastSeenByMemberId.forEach((memberId, lastSeenAt) ->
+                arguments.add(new Object[]{memberId, Timestamp.valueOf(lastSeenAt)}));
+        jdbcTemplate.batchUpdate(MERGE_LAST_SEEN_SQL, arguments);
+    }
+}
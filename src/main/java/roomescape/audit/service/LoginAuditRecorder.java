@@ -0,0 +1,108 @@
+package roomescape.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import roomescape.audit.domain.LoginAuditType;
+import roomescape.audit.dto.LoginAuditEvent;
+import roomescape.audit.repository.LoginAuditBatchRepository;
+
+@Component
+public class LoginAuditRecorder implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(LoginAuditRecorder.class);
+
+    private final LoginAuditBatchRepository loginAuditBatchRepository;
+    private final BlockingQueue<LoginAuditEvent> buffer;
+    private final AtomicReference<Map<Long, LocalDateTime>> lastSeenByMemberId =
+            new AtomicReference<>(new ConcurrentHashMap<>());
+    private final int batchSize;
+    private final Counter droppedCounter;
+    private final Counter flushFailedCounter;
+
+    public LoginAuditRecorder(LoginAuditBatchRepository loginAuditBatchRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${roomescape.audit.buffer-capacity}") int bufferCapacity,
+                              @Value("${roomescape.audit.batch-size}") int batchSize) {
+        this.loginAuditBatchRepository = loginAuditBatchRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.droppedCounter = meterRegistry.counter("roomescape.audit.dropped");
+        this.flushFailedCounter = meterRegistry.counter("roomescape.audit.flush.failed");
+        meterRegistry.gaugeCollectionSize("roomescape.audit.buffered", Tags.empty(), buffer);
+        meterRegistry.gauge("roomescape.audit.last-seen.buffered", Tags.empty(), lastSeenByMemberId,
+                lastSeen -> lastSeen.get().size());
+    }
+
+    public void recordLoginSucceeded(Long memberId, String email) {
+        LocalDateTime now = LocalDateTime.now();
+        record(new LoginAuditEvent(LoginAuditType.LOGIN_SUCCEEDED, memberId, email, now));
+        recordSeen(memberId, now);
+    }
+
+    public void recordLoginFailed(String email) {
+        record(new LoginAuditEvent(LoginAuditType.LOGIN_FAILED, null, email, LocalDateTime.now()));
+    }
+
+    public void recordAuthenticated(Long memberId) {
+        recordSeen(memberId, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.audit.flush-interval}")
+    public void flush() {
+        List<LoginAuditEvent> events = new ArrayList<>(batchSize);
+        while (buffer.drainTo(events, batchSize) > 0) {
+            writeLoginAudits(events);
+            events.clear();
+        }
+        if (!lastSeenByMemberId.get().isEmpty()) {
+            writeLastSeen(lastSeenByMemberId.getAndSet(new ConcurrentHashMap<>()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void record(LoginAuditEvent event) {
+        if (!buffer.offer(event)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void recordSeen(Long memberId, LocalDateTime seenAt) {
+        lastSeenByMemberId.get().merge(memberId, seenAt, (first, second) -> first.isAfter(second) ? first : second);
+    }
+
+    private void writeLoginAudits(List<LoginAuditEvent> events) {
+        try {
+            loginAuditBatchRepository.saveAll(events);
+        } catch (RuntimeException e) {
+            flushFailedCounter.increment();
+            log.error("로그인 감사 로그 저장에 실패했습니다. count={}", events.size(), e);
+        }
+    }
+
+    private void writeLastSeen(Map<Long, LocalDateTime> lastSeen) {
+        try {
+            loginAuditBatchRepository.updateLastSeen(lastSeen);
+        } catch (RuntimeException e) {
+            flushFailedCounter.increment();
+            log.error("마지막 접속 시각 저장에 실패했습니다. count={}", lastSeen.size(), e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package roomescape.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
@@ -11,20 +13,31 @@ import roomescape.auth.dto.LoggedInMember;
 import roomescape.auth.dto.LoginRequest;
 import roomescape.auth.dto.LoginResponse;
 import roomescape.auth.service.AuthService;
+import roomescape.auth.service.LoginRateLimiter;
 
 @RestController
 public class LoginController {
     private final TokenCookieManager tokenCookieManager;
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public LoginController(TokenCookieManager tokenCookieManager, AuthService authService) {
+    public LoginController(TokenCookieManager tokenCookieManager,
+                           AuthService authService,
+                           LoginRateLimiter loginRateLimiter) {
         this.tokenCookieManager = tokenCookieManager;
         this.authService = authService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Void> login(@RequestBody LoginRequest request) {
-        String token = authService.createToken(request);
+    public CompletableFuture<ResponseEntity<Void>> login(@RequestBody LoginRequest request,
+                                                         HttpServletRequest servletRequest) {
+        loginRateLimiter.validateCanAttempt(request.email(), servletRequest.getRemoteAddr());
+        return authService.createToken(request)
+                .thenApply(this::createLoginResponse);
+    }
+
+    private ResponseEntity<Void> createLoginResponse(String token) {
         ResponseCookie cookie = tokenCookieManager.createResponseCookie(token);
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, cookie.toString())
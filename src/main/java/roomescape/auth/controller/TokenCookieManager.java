@@ -2,6 +2,7 @@ package roomescape.auth.controller;
 
 import jakarta.servlet.http.Cookie;
 import java.util.Arrays;
+import java.util.Optional;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 import roomescape.auth.exception.NotLoginAuthenticationException;
@@ -13,14 +14,18 @@ public class TokenCookieManager {
     private static final int ACCESS_TOKEN_MAX_AGE = 30 * MIN;
 
     public String getToken(Cookie[] cookies) {
+        return findToken(cookies)
+                .orElseThrow(NotLoginAuthenticationException::new);
+    }
+
+    public Optional<String> findToken(Cookie[] cookies) {
         if (cookies == null) {
-            throw new NotLoginAuthenticationException();
+            return Optional.empty();
         }
         return Arrays.stream(cookies)
                 .filter(cookie -> ACCESS_TOKEN_KEY.equals(cookie.getName()))
                 .map(Cookie::getValue)
-                .findAny()
-                .orElseThrow(NotLoginAuthenticationException::new);
+                .findAny();
     }
 
     public ResponseCookie createResponseCookie(String token) {
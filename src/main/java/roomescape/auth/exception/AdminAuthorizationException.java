@@ -1,9 +1,10 @@
 package roomescape.auth.exception;
 
-public class AdminAuthorizationException extends RuntimeException {
-    private static final String ERROR_MESSAGE = "관리자만 접근할 수 있습니다.";
+import roomescape.exception.ErrorCode;
+import roomescape.exception.RoomescapeException;
 
+public class AdminAuthorizationException extends RoomescapeException {
     public AdminAuthorizationException() {
-        super(ERROR_MESSAGE);
+        super(ErrorCode.ADMIN_ONLY);
     }
 }
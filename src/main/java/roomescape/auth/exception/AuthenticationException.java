@@ -1,7 +1,10 @@
 package roomescape.auth.exception;
 
-public abstract class AuthenticationException extends RuntimeException {
-    protected AuthenticationException(String message) {
-        super(message);
+import roomescape.exception.ErrorCode;
+import roomescape.exception.RoomescapeException;
+
+public abstract class AuthenticationException extends RoomescapeException {
+    protected AuthenticationException(ErrorCode errorCode) {
+        super(errorCode);
     }
 }
@@ -1,7 +1,9 @@
 package roomescape.auth.exception;
 
+import roomescape.exception.ErrorCode;
+
 public class JwtAuthenticationException extends AuthenticationException {
-    public JwtAuthenticationException(String message) {
-        super(message);
+    public JwtAuthenticationException(ErrorCode errorCode) {
+        super(errorCode);
     }
 }
@@ -1,9 +1,9 @@
 package roomescape.auth.exception;
 
-public class JwtExpiredException extends AuthenticationException {
-    private static final String ERROR_MESSAGE = "해당 토큰이 만료되었습니다.";
+import roomescape.exception.ErrorCode;
 
+public class JwtExpiredException extends AuthenticationException {
     public JwtExpiredException() {
-        super(ERROR_MESSAGE);
+        super(ErrorCode.EXPIRED_TOKEN);
     }
 }
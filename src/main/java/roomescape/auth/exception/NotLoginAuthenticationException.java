@@ -1,9 +1,9 @@
 package roomescape.auth.exception;
 
-public class NotLoginAuthenticationException extends AuthenticationException {
-    private static final String ERROR_MESSAGE = "인증이 되지 않은 유저입니다.";
+import roomescape.exception.ErrorCode;
 
+public class NotLoginAuthenticationException extends AuthenticationException {
     public NotLoginAuthenticationException() {
-        super(ERROR_MESSAGE);
+        super(ErrorCode.NOT_LOGGED_IN);
     }
 }
@@ -1,9 +1,14 @@
 package roomescape.auth.service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.audit.service.LoginAuditRecorder;
 import roomescape.auth.dto.LoggedInMember;
 import roomescape.auth.dto.LoginRequest;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 import roomescape.member.domain.Email;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.Password;
@@ -13,24 +18,44 @@ import roomescape.member.repository.MemberRepository;
 public class AuthService {
     private final TokenProvider tokenProvider;
     private final MemberRepository memberRepository;
+    private final PasswordHasher passwordHasher;
+    private final LoginAuditRecorder loginAuditRecorder;
 
-    public AuthService(TokenProvider tokenProvider, MemberRepository memberRepository) {
+    public AuthService(TokenProvider tokenProvider,
+                       MemberRepository memberRepository,
+                       PasswordHasher passwordHasher,
+                       LoginAuditRecorder loginAuditRecorder) {
         this.tokenProvider = tokenProvider;
         this.memberRepository = memberRepository;
+        this.passwordHasher = passwordHasher;
+        this.loginAuditRecorder = loginAuditRecorder;
     }
 
-    public String createToken(LoginRequest request) {
+    public CompletableFuture<String> createToken(LoginRequest request) {
         Email email = new Email(request.email());
         Password password = new Password(request.password());
-        Member member = memberRepository.findByEmailAndPassword(email, password)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 멤버가 존재하지 않습니다."));
-        return tokenProvider.createToken(member.getId());
+        Optional<Member> member = memberRepository.findByEmail(email);
+        String encodedPassword = member.map(Member::getPassword).orElse(null);
+
+        return passwordHasher.matches(password.password(), encodedPassword)
+                .thenApply(matched -> issueToken(member.filter(found -> matched), request.email()));
+    }
+
+    private String issueToken(Optional<Member> member, String email) {
+        Member loggedInMember = member.orElseThrow(() -> {
+            loginAuditRecorder.recordLoginFailed(email);
+            return new BadArgumentRequestException(ErrorCode.MEMBER_NOT_FOUND);
+        });
+        loginAuditRecorder.recordLoginSucceeded(loggedInMember.getId(), loggedInMember.getEmail());
+        return tokenProvider.createToken(loggedInMember.getId());
     }
 
+    @Transactional(readOnly = true)
     public LoggedInMember findLoggedInMember(String token) {
         Long memberId = tokenProvider.findMemberId(token);
         Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 멤버가 존재하지 않습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.MEMBER_NOT_FOUND));
+        loginAuditRecorder.recordAuthenticated(member.getId());
         return LoggedInMember.from(member);
     }
 }
@@ -0,0 +1,61 @@
+package roomescape.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import roomescape.exception.ErrorCode;
+import roomescape.exception.TooManyRequestsException;
+import roomescape.ratelimit.TokenBuckets;
+
+@Component
+public class LoginRateLimiter {
+    private final TokenBuckets emailBuckets;
+    private final TokenBuckets ipBuckets;
+    private final Counter emailRejectedCounter;
+    private final Counter ipRejectedCounter;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${roomescape.auth.rate-limit.email.capacity}") long emailCapacity,
+                            @Value("${roomescape.auth.rate-limit.email.refill-period}") Duration emailRefillPeriod,
+                            @Value("${roomescape.auth.rate-limit.ip.capacity}") long ipCapacity,
+                            @Value("${roomescape.auth.rate-limit.ip.refill-period}") Duration ipRefillPeriod,
+                            @Value("${roomescape.auth.rate-limit.max-keys}") int maxKeys) {
+        this.emailBuckets = new TokenBuckets(emailCapacity, emailRefillPeriod, maxKeys);
+        this.ipBuckets = new TokenBuckets(ipCapacity, ipRefillPeriod, maxKeys);
+        this.emailRejectedCounter = meterRegistry.counter("roomescape.auth.rate-limit.rejected", "key", "email");
+        this.ipRejectedCounter = meterRegistry.counter("roomescape.auth.rate-limit.rejected", "key", "ip");
+        meterRegistry.gauge("roomescape.auth.rate-limit.keys", Tags.of("key", "email"), emailBuckets,
+                TokenBuckets::size);
+        meterRegistry.gauge("roomescape.auth.rate-limit.keys", Tags.of("key", "ip"), ipBuckets,
+                TokenBuckets::size);
+    }
+
+    public void validateCanAttempt(String email, String clientIp) {
+        long now = System.nanoTime();
+        validateCanConsume(ipBuckets.tryConsume(clientIp, now), ipRejectedCounter);
+        if (email != null) {
+            validateCanConsume(emailBuckets.tryConsume(email.toLowerCase(Locale.ROOT), now), emailRejectedCounter);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.auth.rate-limit.eviction-interval}")
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        emailBuckets.evictFullBuckets(now);
+        ipBuckets.evictFullBuckets(now);
+    }
+
+    private void validateCanConsume(long waitNanos, Counter rejectedCounter) {
+        if (waitNanos > 0) {
+            rejectedCounter.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package roomescape.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordHasher implements DisposableBean {
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final String dummyEncodedPassword;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${roomescape.auth.hash.strength}") int strength,
+                          @Value("${roomescape.auth.hash.queue-capacity}") int queueCapacity) {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyEncodedPassword = passwordEncoder.encode(UUID.randomUUID().toString());
+        this.queueWaitTimer = meterRegistry.timer("roomescape.auth.hash.queue.wait");
+        this.rejectedCounter = meterRegistry.counter("roomescape.auth.hash.rejected");
+        new ExecutorServiceMetrics(executor, "roomescape.auth.hash", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return verify(rawPassword, encodedPassword);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private boolean verify(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            passwordEncoder.matches(rawPassword, dummyEncodedPassword);
+            return false;
+        }
+        return passwordEncoder.matches(rawPassword, encodedPassword);
+    }
+}
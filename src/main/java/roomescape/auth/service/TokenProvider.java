@@ -6,10 +6,12 @@ import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import roomescape.auth.exception.JwtAuthenticationException;
 import roomescape.auth.exception.JwtExpiredException;
+import roomescape.exception.ErrorCode;
 
 @Component
 public class TokenProvider {
@@ -29,17 +31,18 @@ public class TokenProvider {
                 .compact();
     }
 
+    @Timed("roomescape.auth.token.parse")
     public Long findMemberId(String token) {
         try {
             return parseId(token);
         } catch (ExpiredJwtException exception) {
             throw new JwtExpiredException();
         } catch (MalformedJwtException exception) {
-            throw new JwtAuthenticationException("토큰의 형식이 잘못되었습니다.");
+            throw new JwtAuthenticationException(ErrorCode.MALFORMED_TOKEN);
         } catch (InvalidClaimException exception) {
-            throw new JwtAuthenticationException("필요한 정보를 포함하고 있지 않습니다.");
+            throw new JwtAuthenticationException(ErrorCode.MISSING_TOKEN_CLAIM);
         } catch (JwtException exception) {
-            throw new JwtAuthenticationException("해당 토큰은 잘못된 토큰입니다.");
+            throw new JwtAuthenticationException(ErrorCode.INVALID_TOKEN);
         }
     }
 
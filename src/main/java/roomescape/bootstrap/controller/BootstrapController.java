@@ -0,0 +1,37 @@
+package roomescape.bootstrap.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.auth.controller.TokenCookieManager;
+import roomescape.auth.dto.LoggedInMember;
+import roomescape.bootstrap.dto.AdminReservationBootstrapResponse;
+import roomescape.bootstrap.dto.UserReservationBootstrapResponse;
+import roomescape.bootstrap.service.BootstrapService;
+
+@RestController
+public class BootstrapController {
+    private final BootstrapService bootstrapService;
+    private final TokenCookieManager tokenCookieManager;
+
+    public BootstrapController(BootstrapService bootstrapService, TokenCookieManager tokenCookieManager) {
+        this.bootstrapService = bootstrapService;
+        this.tokenCookieManager = tokenCookieManager;
+    }
+
+    @GetMapping("/bootstrap/reservation")
+    public CompletableFuture<ResponseEntity<UserReservationBootstrapResponse>> findUserReservationBootstrap(
+            HttpServletRequest request) {
+        return bootstrapService.findUserReservationBootstrap(tokenCookieManager.findToken(request.getCookies()))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/admin/bootstrap/reservation")
+    public CompletableFuture<ResponseEntity<AdminReservationBootstrapResponse>> findAdminReservationBootstrap(
+            LoggedInMember member) {
+        return bootstrapService.findAdminReservationBootstrap(member)
+                .thenApply(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,15 @@
+package roomescape.bootstrap.dto;
+
+import java.util.List;
+import roomescape.auth.dto.LoginResponse;
+import roomescape.member.dto.MemberResponse;
+import roomescape.reservation.dto.ReservationResponse;
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.time.dto.TimeResponse;
+
+public record AdminReservationBootstrapResponse(LoginResponse member,
+                                                List<ReservationResponse> reservations,
+                                                List<ThemeResponse> themes,
+                                                List<TimeResponse> times,
+                                                List<MemberResponse> members) {
+}
@@ -0,0 +1,8 @@
+package roomescape.bootstrap.dto;
+
+import java.util.List;
+import roomescape.auth.dto.LoginResponse;
+import roomescape.theme.dto.ThemeResponse;
+
+public record UserReservationBootstrapResponse(LoginResponse member, List<ThemeResponse> themes) {
+}
@@ -0,0 +1,86 @@
+package roomescape.bootstrap.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Service;
+import roomescape.auth.dto.LoggedInMember;
+import roomescape.auth.dto.LoginResponse;
+import roomescape.auth.exception.AuthenticationException;
+import roomescape.auth.service.AuthService;
+import roomescape.bootstrap.dto.AdminReservationBootstrapResponse;
+import roomescape.bootstrap.dto.UserReservationBootstrapResponse;
+import roomescape.config.concurrent.ParallelQueryExecutor;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+import roomescape.member.dto.MemberResponse;
+import roomescape.member.service.MemberService;
+import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.service.ReservationFindService;
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.theme.service.ThemeService;
+import roomescape.time.dto.TimeResponse;
+import roomescape.time.service.TimeService;
+
+@Service
+public class BootstrapService {
+    private final AuthService authService;
+    private final ThemeService themeService;
+    private final TimeService timeService;
+    private final MemberService memberService;
+    private final ReservationFindService reservationFindService;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+
+    public BootstrapService(AuthService authService,
+                            ThemeService themeService,
+                            TimeService timeService,
+                            MemberService memberService,
+                            ReservationFindService reservationFindService,
+                            ParallelQueryExecutor parallelQueryExecutor) {
+        this.authService = authService;
+        this.themeService = themeService;
+        this.timeService = timeService;
+        this.memberService = memberService;
+        this.reservationFindService = reservationFindService;
+        this.parallelQueryExecutor = parallelQueryExecutor;
+    }
+
+    public CompletableFuture<UserReservationBootstrapResponse> findUserReservationBootstrap(Optional<String> token) {
+        CompletableFuture<LoginResponse> member = token
+                .map(value -> parallelQueryExecutor.supply(() -> findLoginResponse(value)))
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
+        CompletableFuture<List<ThemeResponse>> themes = parallelQueryExecutor.supply(themeService::findThemes);
+
+        return member.thenCombine(themes, UserReservationBootstrapResponse::new);
+    }
+
+    public CompletableFuture<AdminReservationBootstrapResponse> findAdminReservationBootstrap(LoggedInMember member) {
+        CompletableFuture<List<ReservationResponse>> reservations =
+                parallelQueryExecutor.supply(reservationFindService::findReservations);
+        CompletableFuture<List<ThemeResponse>> themes = parallelQueryExecutor.supply(themeService::findThemes);
+        CompletableFuture<List<TimeResponse>> times = parallelQueryExecutor.supply(timeService::findTimes);
+        CompletableFuture<List<MemberResponse>> members = parallelQueryExecutor.supply(memberService::findMembers);
+
+        return CompletableFuture.allOf(reservations, themes, times, members)
+                .thenApply(ignored -> new AdminReservationBootstrapResponse(
+                        new LoginResponse(member.name()),
+                        reservations.join(),
+                        themes.join(),
+                        times.join(),
+                        members.join()));
+    }
+
+    private LoginResponse findLoginResponse(String token) {
+        try {
+            LoggedInMember member = authService.findLoggedInMember(token);
+            return new LoginResponse(member.name());
+        } catch (AuthenticationException e) {
+            return null;
+        } catch (BadArgumentRequestException e) {
+            if (e.getErrorCode() == ErrorCode.MEMBER_NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,22 +1,45 @@
 package roomescape.config;
 
 import java.util.List;
+import java.util.Map;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 import roomescape.config.handler.AdminAuthorizationInterceptor;
 import roomescape.config.handler.AuthenticationArgumentResolver;
+import roomescape.config.handler.MemberRateLimitInterceptor;
+import roomescape.config.handler.StaticResourceCacheInterceptor;
 
 @Configuration
 public class WebMvcConfiguration implements WebMvcConfigurer {
+    private static final Map<String, String> STATIC_RESOURCE_LOCATIONS = Map.of(
+            "/css/**", "classpath:/static/css/",
+            "/js/**", "classpath:/static/js/",
+            "/image/**", "classpath:/static/image/");
+    private static final String[] PAGE_URL_PATTERNS = {
+            "/reservation", "/login", "/reservation-mine", "/admin", "/admin/*"};
+
     private final AuthenticationArgumentResolver authenticationArgumentResolver;
     private final AdminAuthorizationInterceptor adminAuthorizationInterceptor;
+    private final MemberRateLimitInterceptor memberRateLimitInterceptor;
+    private final StaticResourceCacheInterceptor staticResourceCacheInterceptor;
 
     public WebMvcConfiguration(AuthenticationArgumentResolver authenticationArgumentResolver,
-                               AdminAuthorizationInterceptor adminAuthorizationInterceptor) {
+                               AdminAuthorizationInterceptor adminAuthorizationInterceptor,
+                               MemberRateLimitInterceptor memberRateLimitInterceptor,
+                               StaticResourceCacheInterceptor staticResourceCacheInterceptor) {
         this.authenticationArgumentResolver = authenticationArgumentResolver;
         this.adminAuthorizationInterceptor = adminAuthorizationInterceptor;
+        this.memberRateLimitInterceptor = memberRateLimitInterceptor;
+        this.staticResourceCacheInterceptor = staticResourceCacheInterceptor;
     }
 
     @Override
@@ -28,5 +51,27 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(adminAuthorizationInterceptor)
                 .addPathPatterns("/admin/**");
+        registry.addInterceptor(memberRateLimitInterceptor)
+                .addPathPatterns("/reservations", "/reservations/holds", "/waitings");
+        registry.addInterceptor(staticResourceCacheInterceptor)
+                .addPathPatterns(STATIC_RESOURCE_LOCATIONS.keySet().toArray(String[]::new));
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        STATIC_RESOURCE_LOCATIONS.forEach((pattern, location) -> registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                .addTransformer(new CssLinkResourceTransformer()));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> pageEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(PAGE_URL_PATTERNS);
+        return registration;
     }
 }
@@ -0,0 +1,47 @@
+package roomescape.config.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import roomescape.config.datasource.RequestPatternHolder;
+
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public ParallelQueryExecutor(MeterRegistry meterRegistry,
+                                 @Value("${roomescape.parallel-query.pool-size}") int poolSize,
+                                 @Value("${roomescape.parallel-query.queue-capacity}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("parallel-query-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rejectedCounter = meterRegistry.counter("roomescape.parallel-query.rejected");
+        new ExecutorServiceMetrics(executor, "roomescape.parallel-query", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> query) {
+        try {
+            return CompletableFuture.supplyAsync(RequestPatternHolder.propagate(query), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
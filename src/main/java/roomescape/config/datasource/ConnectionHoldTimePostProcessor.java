@@ -0,0 +1,26 @@
+package roomescape.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConnectionHoldTimePostProcessor implements BeanPostProcessor {
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTimePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+            return new ConnectionHoldTimeDataSource(dataSource, meterRegistry);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,7 @@
+package roomescape.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA,
+    ;
+}
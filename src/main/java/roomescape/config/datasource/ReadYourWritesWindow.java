@@ -0,0 +1,55 @@
+package roomescape.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Component
+public class ReadYourWritesWindow {
+    private static final String PRIMARY_PINNED_ATTRIBUTE = ReadYourWritesWindow.class.getName() + ".PRIMARY_PINNED";
+    private static final int CLEAN_UP_THRESHOLD = 10_000;
+
+    private final Map<Long, Long> expiresAtByMemberId = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadYourWritesWindow(@Value("${roomescape.datasource.read-your-writes-window}") Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(PRIMARY_PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    public void recordWrite(Long memberId) {
+        long now = System.currentTimeMillis();
+        if (expiresAtByMemberId.size() > CLEAN_UP_THRESHOLD) {
+            expiresAtByMemberId.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+        expiresAtByMemberId.put(memberId, now + windowMillis);
+    }
+
+    public boolean isWithinWindow(Long memberId) {
+        Long expiresAt = expiresAtByMemberId.get(memberId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            expiresAtByMemberId.remove(memberId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void pinToPrimaryIfWithinWindow(Long memberId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && isWithinWindow(memberId)) {
+            attributes.setAttribute(PRIMARY_PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
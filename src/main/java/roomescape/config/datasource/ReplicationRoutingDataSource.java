@@ -0,0 +1,16 @@
+package roomescape.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesWindow.isPinnedToPrimary()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
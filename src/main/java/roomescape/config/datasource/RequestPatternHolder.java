@@ -0,0 +1,49 @@
+package roomescape.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+public final class RequestPatternHolder {
+    private static final String NON_REQUEST_PATTERN = "none";
+    private static final String UNMATCHED_PATTERN = "unmatched";
+    private static final ThreadLocal<String> PROPAGATED_PATTERN = new ThreadLocal<>();
+
+    private RequestPatternHolder() {
+    }
+
+    public static String current() {
+        String propagatedPattern = PROPAGATED_PATTERN.get();
+        if (propagatedPattern != null) {
+            return propagatedPattern;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return NON_REQUEST_PATTERN;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMATCHED_PATTERN;
+        }
+        return request.getMethod() + " " + pattern;
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        String pattern = current();
+        return () -> {
+            String previousPattern = PROPAGATED_PATTERN.get();
+            PROPAGATED_PATTERN.set(pattern);
+            try {
+                return task.get();
+            } finally {
+                if (previousPattern == null) {
+                    PROPAGATED_PATTERN.remove();
+                } else {
+                    PROPAGATED_PATTERN.set(previousPattern);
+                }
+            }
+        };
+    }
+}
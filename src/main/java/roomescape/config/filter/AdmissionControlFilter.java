@@ -0,0 +1,103 @@
+package roomescape.config.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import roomescape.advice.dto.ErrorResponse;
+import roomescape.exception.ErrorCode;
+
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    private static final List<String> EXCLUDED_PATH_PREFIXES = List.of(
+            "/css/", "/js/", "/image/", "/actuator/", "/favicon.ico");
+
+    private final List<HikariDataSource> hikariDataSources;
+    private final byte[] overloadedResponseBody;
+    private final int maxPendingConnections;
+    private final int retryAfterSeconds;
+    private final Counter rejectedCounter;
+
+    public AdmissionControlFilter(List<DataSource> dataSources,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${roomescape.admission.max-pending-connections}") int maxPendingConnections,
+                                  @Value("${roomescape.admission.retry-after-seconds}") int retryAfterSeconds)
+            throws JsonProcessingException {
+        this.hikariDataSources = unwrapHikariDataSources(dataSources);
+        this.overloadedResponseBody = objectMapper.writeValueAsBytes(
+                ErrorResponse.from(ErrorCode.SERVICE_UNAVAILABLE));
+        this.maxPendingConnections = maxPendingConnections;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejectedCounter = meterRegistry.counter("roomescape.admission.rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return EXCLUDED_PATH_PREFIXES.stream()
+                .anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isOverloaded()) {
+            rejectedCounter.increment();
+            writeOverloadedResponse(response);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isOverloaded() {
+        for (HikariDataSource hikariDataSource : hikariDataSources) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            if (pool != null && pool.getThreadsAwaitingConnection() >= maxPendingConnections) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<HikariDataSource> unwrapHikariDataSources(List<DataSource> dataSources) {
+        return dataSources.stream()
+                .map(this::unwrapHikariDataSource)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private HikariDataSource unwrapHikariDataSource(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private void writeOverloadedResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getOutputStream().write(overloadedResponseBody);
+    }
+}
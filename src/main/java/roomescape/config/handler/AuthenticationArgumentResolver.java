@@ -10,15 +10,20 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import roomescape.auth.controller.TokenCookieManager;
 import roomescape.auth.dto.LoggedInMember;
 import roomescape.auth.service.AuthService;
+import roomescape.config.datasource.ReadYourWritesWindow;
 
 @Component
 public class AuthenticationArgumentResolver implements HandlerMethodArgumentResolver {
     private final TokenCookieManager tokenCookieManager;
     private final AuthService authService;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
-    public AuthenticationArgumentResolver(TokenCookieManager tokenCookieManager, AuthService authService) {
+    public AuthenticationArgumentResolver(TokenCookieManager tokenCookieManager,
+                                          AuthService authService,
+                                          ReadYourWritesWindow readYourWritesWindow) {
         this.tokenCookieManager = tokenCookieManager;
         this.authService = authService;
+        this.readYourWritesWindow = readYourWritesWindow;
     }
 
     @Override
@@ -33,6 +38,8 @@ public class AuthenticationArgumentResolver implements HandlerMethodArgumentReso
                                   WebDataBinderFactory binderFactory) throws Exception {
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
         String token = tokenCookieManager.getToken(request.getCookies());
-        return authService.findLoggedInMember(token);
+        LoggedInMember member = authService.findLoggedInMember(token);
+        readYourWritesWindow.pinToPrimaryIfWithinWindow(member.id());
+        return member;
     }
 }
@@ -0,0 +1,76 @@
+package roomescape.config.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import roomescape.auth.controller.TokenCookieManager;
+import roomescape.auth.service.TokenProvider;
+import roomescape.exception.ErrorCode;
+import roomescape.exception.TooManyRequestsException;
+import roomescape.idempotency.IdempotencyScope;
+import roomescape.idempotency.IdempotencyStore;
+import roomescape.ratelimit.SlidingWindowRateLimiter;
+
+@Component
+public class MemberRateLimitInterceptor implements HandlerInterceptor {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final TokenCookieManager tokenCookieManager;
+    private final TokenProvider tokenProvider;
+    private final IdempotencyStore idempotencyStore;
+    private final SlidingWindowRateLimiter rateLimiter;
+    private final Counter rejectedCounter;
+
+    public MemberRateLimitInterceptor(TokenCookieManager tokenCookieManager,
+                                      TokenProvider tokenProvider,
+                                      IdempotencyStore idempotencyStore,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${roomescape.booking.rate-limit.limit}") int limit,
+                                      @Value("${roomescape.booking.rate-limit.window}") Duration window) {
+        this.tokenCookieManager = tokenCookieManager;
+        this.tokenProvider = tokenProvider;
+        this.idempotencyStore = idempotencyStore;
+        this.rateLimiter = new SlidingWindowRateLimiter(limit, window);
+        this.rejectedCounter = meterRegistry.counter("roomescape.booking.rate-limit.rejected");
+        meterRegistry.gauge("roomescape.booking.rate-limit.members", Tags.empty(), rateLimiter,
+                SlidingWindowRateLimiter::size);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        String token = tokenCookieManager.getToken(request.getCookies());
+        Long memberId = tokenProvider.findMemberId(token);
+        if (isReplay(request, memberId)) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(memberId, System.nanoTime());
+        if (waitNanos > 0) {
+            rejectedCounter.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_BOOKING_REQUESTS, retryAfterSeconds);
+        }
+        return true;
+    }
+
+    private boolean isReplay(HttpServletRequest request, Long memberId) {
+        return idempotencyStore.isReplay(IdempotencyScope.from(request), request.getHeader(IDEMPOTENCY_KEY_HEADER),
+                memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.booking.rate-limit.eviction-interval}")
+    public void evictIdleCounters() {
+        rateLimiter.evictIdleCounters(System.nanoTime());
+    }
+}
@@ -0,0 +1,31 @@
+package roomescape.config.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class StaticResourceCacheInterceptor implements HandlerInterceptor {
+    private static final String FINGERPRINTED_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String PLAIN_CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+    private static final Pattern FINGERPRINTED_PATH = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, selectCacheControl(request.getRequestURI()));
+        return true;
+    }
+
+    private String selectCacheControl(String requestUri) {
+        if (FINGERPRINTED_PATH.matcher(requestUri).find()) {
+            return FINGERPRINTED_CACHE_CONTROL;
+        }
+        return PLAIN_CACHE_CONTROL;
+    }
+}
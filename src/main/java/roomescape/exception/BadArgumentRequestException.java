@@ -1,7 +1,7 @@
 package roomescape.exception;
 
-public class BadArgumentRequestException extends RuntimeException {
-    public BadArgumentRequestException(String message) {
-        super(message);
+public class BadArgumentRequestException extends RoomescapeException {
+    public BadArgumentRequestException(ErrorCode errorCode) {
+        super(errorCode);
     }
 }
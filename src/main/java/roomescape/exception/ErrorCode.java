@@ -0,0 +1,61 @@
+package roomescape.exception;
+
+import org.springframework.http.HttpStatus;
+
+public enum ErrorCode {
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    INVALID_EMAIL_LENGTH(HttpStatus.BAD_REQUEST, "예약자 이메일은 1글자 이상 100글자 이하이어야 합니다."),
+    INVALID_EMAIL_FORMAT(HttpStatus.BAD_REQUEST, "이메일 형식이 일치하지 않습니다."),
+    INVALID_PASSWORD_LENGTH(HttpStatus.BAD_REQUEST, "예약자 비밀번호는 1글자 이상 100글자 이하이어야 합니다."),
+    INVALID_MEMBER_NAME_LENGTH(HttpStatus.BAD_REQUEST, "예약자 이름은 1글자 이상 20글자 이하이어야 합니다."),
+    INVALID_THEME_NAME_LENGTH(HttpStatus.BAD_REQUEST, "테마 이름은 1글자 이상 30글자 미만이어야 합니다."),
+    INVALID_THEME_DESCRIPTION_LENGTH(HttpStatus.BAD_REQUEST, "테마 설명은 1글자 이상 255글자 이하이어야 합니다."),
+    INVALID_THEME_THUMBNAIL_LENGTH(HttpStatus.BAD_REQUEST, "테마 썸네일은 1글자 이상 500글자 이하이어야 합니다."),
+    EMPTY_SEARCH_CONDITION(HttpStatus.BAD_REQUEST, "검색 조건은 1개 이상 있어야 합니다."),
+    MEMBER_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 멤버가 존재하지 않습니다."),
+    WAITING_MEMBER_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 유저가 존재하지 않습니다."),
+    TIME_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 예약 시간이 존재하지 않습니다."),
+    THEME_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 테마가 존재하지 않습니다."),
+    RESERVATION_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 예약을 찾을 수 없습니다."),
+    WAITING_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 예약 대기가 존재하지 않습니다."),
+    RESERVATION_NOT_BOOKED(HttpStatus.BAD_REQUEST, "아직 예약되지 않았습니다."),
+    PAST_RESERVATION(HttpStatus.BAD_REQUEST, "예약은 현재 시간 이후여야 합니다."),
+    PAST_RESERVATION_DELETION(HttpStatus.BAD_REQUEST, "예약은 현재 날짜 이후여야 합니다."),
+    PAST_WAITING(HttpStatus.BAD_REQUEST, "예약 대기는 현재 시간 이후이어야 합니다."),
+    ALREADY_RESERVED_BY_MEMBER(HttpStatus.BAD_REQUEST, "이미 예약 했습니다."),
+    WAITING_NOT_CANCELABLE(HttpStatus.BAD_REQUEST, "해당 예약을 취소할 수 없습니다."),
+    SLOT_ALREADY_BOOKED(HttpStatus.BAD_REQUEST, "이미 예약된 시간입니다."),
+    SLOT_HELD_BY_OTHER(HttpStatus.BAD_REQUEST, "다른 사용자가 예약 중인 시간입니다."),
+    HOLD_NOT_FOUND(HttpStatus.BAD_REQUEST, "예약 선점 정보가 없거나 만료되었습니다."),
+    TOO_MANY_HOLDS(HttpStatus.BAD_REQUEST, "동시에 선점할 수 있는 예약 시간 수를 초과했습니다."),
+    INVALID_PAGE_REQUEST(HttpStatus.BAD_REQUEST, "페이지는 0 이상, 페이지 크기는 1 이상 100 이하이어야 합니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "멱등성 키는 1글자 이상 255글자 이하이어야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 멱등성 키로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 멱등성 키의 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    NOT_LOGGED_IN(HttpStatus.UNAUTHORIZED, "인증이 되지 않은 유저입니다."),
+    EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "해당 토큰이 만료되었습니다."),
+    MALFORMED_TOKEN(HttpStatus.UNAUTHORIZED, "토큰의 형식이 잘못되었습니다."),
+    MISSING_TOKEN_CLAIM(HttpStatus.UNAUTHORIZED, "필요한 정보를 포함하고 있지 않습니다."),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "해당 토큰은 잘못된 토큰입니다."),
+    ADMIN_ONLY(HttpStatus.FORBIDDEN, "관리자만 접근할 수 있습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_BOOKING_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "예약 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    UNEXPECTED_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "예상치 못한 예외가 발생했습니다. 관리자에게 문의하세요.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,14 @@
+package roomescape.exception;
+
+public abstract class RoomescapeException extends RuntimeException {
+    private final ErrorCode errorCode;
+
+    protected RoomescapeException(ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
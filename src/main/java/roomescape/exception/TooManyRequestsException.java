@@ -0,0 +1,14 @@
+package roomescape.exception;
+
+public class TooManyRequestsException extends RoomescapeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
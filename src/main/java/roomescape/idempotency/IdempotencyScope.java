@@ -0,0 +1,18 @@
+package roomescape.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+public final class IdempotencyScope {
+
+    private IdempotencyScope() {
+    }
+
+    public static String from(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            pattern = request.getRequestURI();
+        }
+        return request.getMethod() + " " + pattern;
+    }
+}
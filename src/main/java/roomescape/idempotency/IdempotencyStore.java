@@ -0,0 +1,121 @@
+package roomescape.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+
+@Component
+public class IdempotencyStore {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<IdempotencyKey, StoredResponse> responses = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration replayTimeout;
+    private final Counter replayedCounter;
+
+    public IdempotencyStore(MeterRegistry meterRegistry,
+                            @Value("${roomescape.idempotency.ttl}") Duration ttl,
+                            @Value("${roomescape.idempotency.replay-timeout}") Duration replayTimeout) {
+        this.ttl = ttl;
+        this.replayTimeout = replayTimeout;
+        this.replayedCounter = meterRegistry.counter("roomescape.idempotency.replayed");
+        meterRegistry.gaugeMapSize("roomescape.idempotency.keys", Tags.empty(), responses);
+    }
+
+    public <T> ResponseEntity<T> execute(String scope, String key, Long memberId, Object request,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        validateKey(key);
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyKey idempotencyKey = new IdempotencyKey(scope, memberId, key);
+        StoredResponse candidate = new StoredResponse(request, now.plus(ttl), new CompletableFuture<>());
+        StoredResponse stored = responses.compute(idempotencyKey,
+                (ignored, found) -> found == null || found.isExpired(now) ? candidate : found);
+        if (stored != candidate) {
+            return replay(stored, request);
+        }
+        return executeOnce(idempotencyKey, candidate, action);
+    }
+
+    public boolean isReplay(String scope, String key, Long memberId) {
+        if (key == null) {
+            return false;
+        }
+        StoredResponse stored = responses.get(new IdempotencyKey(scope, memberId, key));
+        return stored != null && !stored.isExpired(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedRateString = "${roomescape.idempotency.eviction-interval}")
+    public void evictExpiredResponses() {
+        LocalDateTime now = LocalDateTime.now();
+        responses.values().removeIf(stored -> stored.isExpired(now) && stored.response().isDone());
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadArgumentRequestException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+
+    private <T> ResponseEntity<T> executeOnce(IdempotencyKey idempotencyKey, StoredResponse candidate,
+                                              Supplier<ResponseEntity<T>> action) {
+        try {
+            ResponseEntity<T> response = action.get();
+            candidate.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            responses.remove(idempotencyKey, candidate);
+            candidate.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(StoredResponse stored, Object request) {
+        if (!stored.request().equals(request)) {
+            throw new BadArgumentRequestException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        replayedCounter.increment();
+        try {
+            return (ResponseEntity<T>) stored.response().get(replayTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new BadArgumentRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BadArgumentRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private record IdempotencyKey(String scope, Long memberId, String key) {
+    }
+
+    private record StoredResponse(Object request,
+                                  LocalDateTime expiresAt,
+                                  CompletableFuture<ResponseEntity<?>> response) {
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
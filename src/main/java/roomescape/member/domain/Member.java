@@ -33,6 +33,11 @@ public class Member {
         this(id, new MemberName(name), new Email(email), MemberRole.valueOf(role));
     }
 
+    public Member(Long id, String name, String email, String role, String password) {
+        this(id, new MemberName(name), new Email(email), MemberRole.valueOf(role));
+        this.password = new Password(password);
+    }
+
     private Member(Long id, MemberName name, Email email, MemberRole role) {
         this.id = Objects.requireNonNull(id);
         this.name = Objects.requireNonNull(name);
@@ -59,6 +64,10 @@ public class Member {
         return email.email();
     }
 
+    public String getPassword() {
+        return password.password();
+    }
+
     public MemberRole getRole() {
         return role;
     }
@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import java.util.Objects;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 
 @Embeddable
 public record MemberName(
@@ -15,7 +16,7 @@ public record MemberName(
     public MemberName {
         Objects.requireNonNull(name);
         if (name.isEmpty() || name.length() > MAX_LENGTH) {
-            throw new BadArgumentRequestException("예약자 이름은 1글자 이상 20글자 이하이어야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.INVALID_MEMBER_NAME_LENGTH);
         }
     }
 }
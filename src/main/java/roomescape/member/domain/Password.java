@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import java.util.Objects;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 
 @Embeddable
 public record Password(
@@ -15,7 +16,7 @@ public record Password(
     public Password {
         Objects.requireNonNull(password);
         if (password.isEmpty() || password.length() > MAX_LENGTH) {
-            throw new BadArgumentRequestException("예약자 비밀번호는 1글자 이상 100글자 이하이어야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.INVALID_PASSWORD_LENGTH);
         }
     }
 }
@@ -5,10 +5,9 @@ import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.stereotype.Repository;
 import roomescape.member.domain.Email;
 import roomescape.member.domain.Member;
-import roomescape.member.domain.Password;
 
 @Repository
 public interface MemberRepository extends ListCrudRepository<Member, Long> {
 
-    Optional<Member> findByEmailAndPassword(Email email, Password password);
+    Optional<Member> findByEmail(Email email);
 }
@@ -2,6 +2,7 @@ package roomescape.member.service;
 
 import java.util.List;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import roomescape.member.dto.MemberResponse;
 import roomescape.member.repository.MemberRepository;
 
@@ -13,6 +14,7 @@ public class MemberService {
         this.memberRepository = memberRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<MemberResponse> findMembers() {
         return memberRepository.findAll()
                 .stream()
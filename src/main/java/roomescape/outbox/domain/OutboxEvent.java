@@ -0,0 +1,99 @@
+package roomescape.outbox.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import roomescape.reservation.domain.Reservation;
+
+@Entity
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxEventType type;
+    @Column(nullable = false)
+    private Long reservationId;
+    @Column(nullable = false)
+    private Long memberId;
+    @Column(nullable = false)
+    private Long themeId;
+    @Column(nullable = false)
+    private Long timeId;
+    @Column(nullable = false)
+    private LocalDate date;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    @Column(nullable = false)
+    private int attempts;
+    private LocalDateTime parkedAt;
+
+    public OutboxEvent(OutboxEventType type, Reservation reservation, Long memberId) {
+        this.type = Objects.requireNonNull(type);
+        this.reservationId = Objects.requireNonNull(reservation.getId());
+        this.memberId = Objects.requireNonNull(memberId);
+        this.themeId = reservation.getTheme().getId();
+        this.timeId = reservation.getTime().getId();
+        this.date = reservation.getDate();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    protected OutboxEvent() {
+    }
+
+    public int recordFailedAttempt() {
+        return ++attempts;
+    }
+
+    public void park(LocalDateTime now) {
+        this.parkedAt = now;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventType getType() {
+        return type;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getParkedAt() {
+        return parkedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package roomescape.outbox.domain;
+
+public enum OutboxEventType {
+    RESERVATION_CREATED,
+    RESERVATION_DELETED,
+    RESERVATION_PROMOTED,
+    WAITING_CREATED,
+    WAITING_CANCELED,
+    ;
+}
@@ -0,0 +1,12 @@
+package roomescape.outbox.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.stereotype.Repository;
+import roomescape.outbox.domain.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends ListCrudRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findAllByParkedAtIsNullOrderByIdAsc(Pageable pageable);
+}
@@ -0,0 +1,168 @@
+package roomescape.outbox.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.outbox.domain.OutboxEvent;
+import roomescape.outbox.repository.OutboxEventRepository;
+
+@Component
+public class OutboxEventDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(OutboxEventDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventListener> listeners;
+    private final Map<Long, Set<OutboxEventListener>> deliveredListeners = new ConcurrentHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+    private final Timer lagTimer;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public OutboxEventDispatcher(OutboxEventRepository outboxEventRepository,
+                                 List<OutboxEventListener> listeners,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${roomescape.outbox.batch-size}") int batchSize,
+                                 @Value("${roomescape.outbox.max-attempts}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lagTimer = meterRegistry.timer("roomescape.outbox.lag");
+        this.failedCounter = meterRegistry.counter("roomescape.outbox.failed");
+        this.parkedCounter = meterRegistry.counter("roomescape.outbox.parked");
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        meterRegistry.gaugeMapSize("roomescape.outbox.delivering", Tags.empty(), deliveredListeners);
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.outbox.dispatch-interval}")
+    public void dispatch() {
+        int dispatchedCount;
+        do {
+            dispatchedCount = transactionTemplate.execute(status -> dispatchBatch());
+        } while (dispatchedCount == batchSize);
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findAllByParkedAtIsNullOrderByIdAsc(
+                PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Set<OutboxEvent> failedEvents = new LinkedHashSet<>();
+        listeners.forEach(listener -> deliver(listener, events, failedEvents));
+
+        List<OutboxEvent> deliveredEvents = events.stream()
+                .filter(this::isDeliveredToAllListeners)
+                .toList();
+        List<OutboxEvent> exhaustedEvents = failedEvents.stream()
+                .filter(event -> !deliveredEvents.contains(event))
+                .filter(event -> event.getAttempts() >= maxAttempts)
+                .toList();
+        remove(deliveredEvents);
+        park(exhaustedEvents);
+        if (!failedEvents.isEmpty()) {
+            outboxEventRepository.saveAll(failedEvents);
+        }
+        return deliveredEvents.size() + exhaustedEvents.size();
+    }
+
+    private void deliver(OutboxEventListener listener, List<OutboxEvent> events, Set<OutboxEvent> failedEvents) {
+        List<OutboxEvent> pendingEvents = events.stream()
+                .filter(event -> !isDeliveredTo(event, listener))
+                .toList();
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+        if (handle(listener, pendingEvents)) {
+            markDelivered(listener, pendingEvents);
+            return;
+        }
+        if (pendingEvents.size() == 1) {
+            recordFailure(pendingEvents.get(0), failedEvents);
+            return;
+        }
+        for (OutboxEvent event : pendingEvents) {
+            if (handle(listener, List.of(event))) {
+                markDelivered(listener, List.of(event));
+            } else {
+                recordFailure(event, failedEvents);
+            }
+        }
+    }
+
+    private boolean handle(OutboxEventListener listener, List<OutboxEvent> events) {
+        try {
+            listener.handle(events);
+            return true;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("아웃박스 이벤트 처리에 실패했습니다. listener={}, count={}",
+                    listener.getClass().getSimpleName(), events.size(), e);
+            return false;
+        }
+    }
+
+    private void markDelivered(OutboxEventListener listener, List<OutboxEvent> events) {
+        events.forEach(event -> deliveredListeners.computeIfAbsent(event.getId(), id -> ConcurrentHashMap.newKeySet())
+                .add(listener));
+    }
+
+    private void recordFailure(OutboxEvent event, Set<OutboxEvent> failedEvents) {
+        event.recordFailedAttempt();
+        failedEvents.add(event);
+    }
+
+    private boolean isDeliveredTo(OutboxEvent event, OutboxEventListener listener) {
+        Set<OutboxEventListener> delivered = deliveredListeners.get(event.getId());
+        return delivered != null && delivered.contains(listener);
+    }
+
+    private boolean isDeliveredToAllListeners(OutboxEvent event) {
+        return listeners.stream()
+                .allMatch(listener -> isDeliveredTo(event, listener));
+    }
+
+    private void remove(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        recordLag(events);
+        outboxEventRepository.deleteAll(events);
+        events.forEach(event -> deliveredListeners.remove(event.getId()));
+    }
+
+    private void park(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            event.park(now);
+            deliveredListeners.remove(event.getId());
+            parkedCounter.increment();
+            log.error("재시도 횟수를 넘은 아웃박스 이벤트를 보류합니다. id={}, type={}, attempts={}",
+                    event.getId(), event.getType(), event.getAttempts());
+        }
+    }
+
+    private void recordLag(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), now)));
+    }
+}
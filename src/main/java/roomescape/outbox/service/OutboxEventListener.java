@@ -0,0 +1,8 @@
+package roomescape.outbox.service;
+
+import java.util.List;
+import roomescape.outbox.domain.OutboxEvent;
+
+public interface OutboxEventListener {
+    void handle(List<OutboxEvent> events);
+}
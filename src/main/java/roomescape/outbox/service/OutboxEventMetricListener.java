@@ -0,0 +1,21 @@
+package roomescape.outbox.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import roomescape.outbox.domain.OutboxEvent;
+
+@Component
+public class OutboxEventMetricListener implements OutboxEventListener {
+    private final MeterRegistry meterRegistry;
+
+    public OutboxEventMetricListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        events.forEach(event -> meterRegistry.counter("roomescape.reservation.event", "type", event.getType().name())
+                .increment());
+    }
+}
@@ -0,0 +1,23 @@
+package roomescape.outbox.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.outbox.domain.OutboxEvent;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.repository.OutboxEventRepository;
+import roomescape.reservation.domain.Reservation;
+
+@Service
+public class OutboxEventRecorder {
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OutboxEventRecorder(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType type, Reservation reservation, Long memberId) {
+        outboxEventRepository.save(new OutboxEvent(type, reservation, memberId));
+    }
+}
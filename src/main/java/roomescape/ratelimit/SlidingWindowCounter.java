@@ -0,0 +1,50 @@
+package roomescape.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SlidingWindowCounter {
+    private final long windowNanos;
+    private final AtomicReference<Window> window;
+
+    public SlidingWindowCounter(long windowNanos, long nowNanos) {
+        this.windowNanos = windowNanos;
+        this.window = new AtomicReference<>(new Window(nowNanos, 0, 0));
+    }
+
+    public long tryAcquire(int limit, long nowNanos) {
+        while (true) {
+            Window current = window.get();
+            Window rolled = current.roll(windowNanos, nowNanos);
+            if (rolled.estimate(windowNanos, nowNanos) + 1 > limit) {
+                return Math.max(1, rolled.start() + windowNanos - nowNanos);
+            }
+            if (window.compareAndSet(current, rolled.increment())) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isIdle(long nowNanos) {
+        return nowNanos - window.get().start() >= windowNanos * 2;
+    }
+
+    private record Window(long start, int previousCount, int currentCount) {
+        Window roll(long windowNanos, long nowNanos) {
+            long elapsedWindows = (nowNanos - start) / windowNanos;
+            if (elapsedWindows <= 0) {
+                return this;
+            }
+            int rolledPreviousCount = elapsedWindows == 1 ? currentCount : 0;
+            return new Window(start + elapsedWindows * windowNanos, rolledPreviousCount, 0);
+        }
+
+        double estimate(long windowNanos, long nowNanos) {
+            double previousWeight = 1 - (double) (nowNanos - start) / windowNanos;
+            return previousCount * previousWeight + currentCount;
+        }
+
+        Window increment() {
+            return new Window(start, previousCount, currentCount + 1);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package roomescape.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SlidingWindowRateLimiter {
+    private final Map<Long, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final int limit;
+    private final long windowNanos;
+
+    public SlidingWindowRateLimiter(int limit, Duration window) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+    }
+
+    public long tryAcquire(Long key, long nowNanos) {
+        return counters.computeIfAbsent(key, k -> new SlidingWindowCounter(windowNanos, nowNanos))
+                .tryAcquire(limit, nowNanos);
+    }
+
+    public void evictIdleCounters(long nowNanos) {
+        counters.values().removeIf(counter -> counter.isIdle(nowNanos));
+    }
+
+    public int size() {
+        return counters.size();
+    }
+}
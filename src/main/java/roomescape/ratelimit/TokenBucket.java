@@ -0,0 +1,33 @@
+package roomescape.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+    private final long refillPeriodNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(long capacity, Duration refillPeriod) {
+        this.refillPeriodNanos = refillPeriod.toNanos();
+        this.burstNanos = capacity * refillPeriodNanos;
+    }
+
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, nowNanos) + refillPeriodNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalTime.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,50 @@
+package roomescape.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBuckets {
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastEvictedAt = new AtomicLong(Long.MIN_VALUE);
+    private final long capacity;
+    private final Duration refillPeriod;
+    private final int maxKeys;
+
+    public TokenBuckets(long capacity, Duration refillPeriod, int maxKeys) {
+        this.capacity = capacity;
+        this.refillPeriod = refillPeriod;
+        this.maxKeys = maxKeys;
+    }
+
+    public long tryConsume(String key, long nowNanos) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && !evictWhenFull(nowNanos)) {
+                return refillPeriod.toNanos();
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPeriod));
+        }
+        return bucket.tryConsume(nowNanos);
+    }
+
+    public void evictFullBuckets(long nowNanos) {
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private boolean evictWhenFull(long nowNanos) {
+        long evictedAt = lastEvictedAt.get();
+        if (evictedAt != Long.MIN_VALUE && nowNanos - evictedAt < refillPeriod.toNanos()) {
+            return false;
+        }
+        if (lastEvictedAt.compareAndSet(evictedAt, nowNanos)) {
+            evictFullBuckets(nowNanos);
+        }
+        return buckets.size() < maxKeys;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.reservation.dto.CompactReservationsResponse;
 import roomescape.reservation.dto.ReservationCreateRequest;
 import roomescape.reservation.dto.ReservationResponse;
 import roomescape.reservation.dto.ReservationSearchRequest;
@@ -32,6 +33,12 @@ public class AdminReservationController {
         return findService.findReservations(searchRequest);
     }
 
+    @GetMapping(params = "format=compact")
+    public CompactReservationsResponse findCompactReservations(
+            @ModelAttribute ReservationSearchRequest searchRequest) {
+        return findService.findCompactReservations(searchRequest);
+    }
+
     @PostMapping
     public ResponseEntity<ReservationResponse> createReservation(@RequestBody ReservationCreateRequest request) {
         ReservationResponse response = createService.createReservation(request);
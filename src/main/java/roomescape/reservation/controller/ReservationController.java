@@ -1,7 +1,9 @@
 package roomescape.reservation.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,34 +11,47 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import roomescape.auth.dto.LoggedInMember;
+import roomescape.config.datasource.ReadYourWritesWindow;
+import roomescape.idempotency.IdempotencyScope;
+import roomescape.idempotency.IdempotencyStore;
+import roomescape.reservation.dto.CompactReservationsResponse;
 import roomescape.reservation.dto.MyReservationResponse;
 import roomescape.reservation.dto.ReservationCreateRequest;
 import roomescape.reservation.dto.ReservationResponse;
-import roomescape.reservation.service.ReservationCreateService;
+import roomescape.reservation.dto.SlotHoldResponse;
 import roomescape.reservation.service.ReservationDeleteService;
 import roomescape.reservation.service.ReservationFindMineService;
 import roomescape.reservation.service.ReservationFindService;
+import roomescape.reservation.service.SlotHoldService;
 
 @RestController
 @RequestMapping("/reservations")
 public class ReservationController {
     private final ReservationFindService findService;
     private final ReservationFindMineService findMineService;
-    private final ReservationCreateService createService;
     private final ReservationDeleteService deleteService;
+    private final SlotHoldService slotHoldService;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final IdempotencyStore idempotencyStore;
 
     public ReservationController(ReservationFindService findService,
                                  ReservationFindMineService findMineService,
-                                 ReservationCreateService createService,
-                                 ReservationDeleteService deleteService) {
+                                 ReservationDeleteService deleteService,
+                                 SlotHoldService slotHoldService,
+                                 ReadYourWritesWindow readYourWritesWindow,
+                                 IdempotencyStore idempotencyStore) {
         this.findService = findService;
         this.findMineService = findMineService;
-        this.createService = createService;
         this.deleteService = deleteService;
+        this.slotHoldService = slotHoldService;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @GetMapping
@@ -44,22 +59,67 @@ public class ReservationController {
         return findService.findReservations();
     }
 
+    @GetMapping(params = "format=compact")
+    public CompactReservationsResponse findCompactReservations() {
+        return findService.findCompactReservations();
+    }
+
     @GetMapping("/accounts")
-    public List<MyReservationResponse> findMyReservations(LoggedInMember member) {
+    public CompletableFuture<List<MyReservationResponse>> findMyReservations(LoggedInMember member) {
         return findMineService.findMyReservations(member.id());
     }
 
+    @GetMapping("/accounts/history")
+    public List<MyReservationResponse> findMyReservationHistory(
+            LoggedInMember member,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return findMineService.findMyReservationHistory(member.id(), page, size);
+    }
+
     @PostMapping
     public ResponseEntity<ReservationResponse> createReservation(
+            @RequestBody ReservationCreateRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            LoggedInMember member,
+            HttpServletRequest servletRequest) {
+        return idempotencyStore.execute(IdempotencyScope.from(servletRequest), idempotencyKey, member.id(), request, () -> {
+            ReservationResponse response = slotHoldService.createReservation(request, member.id());
+            readYourWritesWindow.recordWrite(member.id());
+
+            URI location = URI.create("/reservations/" + response.id());
+            return ResponseEntity.created(location)
+                    .body(response);
+        });
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<SlotHoldResponse> holdSlot(
             @RequestBody ReservationCreateRequest request,
             LoggedInMember member) {
-        ReservationResponse response = createService.createReservation(request, member.id());
+        SlotHoldResponse response = slotHoldService.holdSlot(request, member.id());
+
+        URI location = URI.create("/reservations/holds/" + response.id());
+        return ResponseEntity.created(location)
+                .body(response);
+    }
+
+    @PostMapping("/holds/{id}/confirm")
+    public ResponseEntity<ReservationResponse> confirmHold(@PathVariable String id, LoggedInMember member) {
+        ReservationResponse response = slotHoldService.confirmHold(id, member.id());
+        readYourWritesWindow.recordWrite(member.id());
 
         URI location = URI.create("/reservations/" + response.id());
         return ResponseEntity.created(location)
                 .body(response);
     }
 
+    @DeleteMapping("/holds/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancelHold(@PathVariable String id, LoggedInMember member) {
+        slotHoldService.cancelHold(id, member.id());
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteReservation(@PathVariable Long id) {
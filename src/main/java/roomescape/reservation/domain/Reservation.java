@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,7 +18,9 @@ import roomescape.theme.domain.Theme;
 import roomescape.time.domain.ReservationTime;
 
 @Entity
-@Table(name = "reservation", uniqueConstraints = @UniqueConstraint(columnNames = {"date", "timeId", "themeId"}))
+@Table(name = "reservation",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"date", "timeId", "themeId"}),
+        indexes = @Index(name = "idx_reservation_member_id_date", columnList = "member_id, date"))
 public class Reservation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
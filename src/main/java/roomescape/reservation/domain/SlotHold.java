@@ -0,0 +1,71 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import roomescape.reservation.dto.ReservationCreateRequest;
+
+public class SlotHold {
+    private final String id;
+    private final Long memberId;
+    private final LocalDate date;
+    private final Long timeId;
+    private final Long themeId;
+    private final LocalDateTime expiresAt;
+
+    public SlotHold(Long memberId, LocalDate date, Long timeId, Long themeId, LocalDateTime expiresAt) {
+        this.id = UUID.randomUUID().toString();
+        this.memberId = Objects.requireNonNull(memberId);
+        this.date = Objects.requireNonNull(date);
+        this.timeId = Objects.requireNonNull(timeId);
+        this.themeId = Objects.requireNonNull(themeId);
+        this.expiresAt = Objects.requireNonNull(expiresAt);
+    }
+
+    public boolean isExpired(LocalDateTime dateTime) {
+        return !dateTime.isBefore(expiresAt);
+    }
+
+    public boolean isOwner(Long memberId) {
+        return this.memberId.equals(memberId);
+    }
+
+    public Slot getSlot() {
+        return new Slot(date, timeId, themeId);
+    }
+
+    public ReservationCreateRequest toRequest() {
+        return new ReservationCreateRequest(memberId, date, timeId, themeId);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public record Slot(LocalDate date, Long timeId, Long themeId) {
+        public static Slot from(ReservationCreateRequest request) {
+            return new Slot(request.date(), request.timeId(), request.themeId());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package roomescape.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import roomescape.reservation.domain.Reservation;
+
+public record CompactReservationResponse(Long id,
+                                         Long memberId,
+                                         @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                         Long timeId,
+                                         Long themeId) {
+    public static CompactReservationResponse from(Reservation reservation) {
+        return new CompactReservationResponse(
+                reservation.getId(),
+                reservation.getMember().getId(),
+                reservation.getDate(),
+                reservation.getTime().getId(),
+                reservation.getTheme().getId());
+    }
+}
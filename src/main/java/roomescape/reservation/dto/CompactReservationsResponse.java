@@ -0,0 +1,30 @@
+package roomescape.reservation.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import roomescape.member.dto.MemberResponse;
+import roomescape.reservation.domain.Reservation;
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.time.dto.TimeResponse;
+
+public record CompactReservationsResponse(List<CompactReservationResponse> reservations,
+                                          Map<Long, MemberResponse> members,
+                                          Map<Long, TimeResponse> times,
+                                          Map<Long, ThemeResponse> themes) {
+    public static CompactReservationsResponse from(List<Reservation> reservations) {
+        Map<Long, MemberResponse> members = new LinkedHashMap<>();
+        Map<Long, TimeResponse> times = new LinkedHashMap<>();
+        Map<Long, ThemeResponse> themes = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            members.computeIfAbsent(reservation.getMember().getId(),
+                    id -> MemberResponse.from(reservation.getMember()));
+            times.computeIfAbsent(reservation.getTime().getId(), id -> TimeResponse.from(reservation.getTime()));
+            themes.computeIfAbsent(reservation.getTheme().getId(), id -> ThemeResponse.from(reservation.getTheme()));
+        }
+        List<CompactReservationResponse> rows = reservations.stream()
+                .map(CompactReservationResponse::from)
+                .toList();
+        return new CompactReservationsResponse(rows, members, times, themes);
+    }
+}
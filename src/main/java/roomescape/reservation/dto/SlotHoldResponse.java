@@ -0,0 +1,21 @@
+package roomescape.reservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import roomescape.reservation.domain.SlotHold;
+
+public record SlotHoldResponse(String id,
+                               @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                               Long timeId,
+                               Long themeId,
+                               @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime expiresAt) {
+    public static SlotHoldResponse from(SlotHold hold) {
+        return new SlotHoldResponse(
+                hold.getId(),
+                hold.getDate(),
+                hold.getTimeId(),
+                hold.getThemeId(),
+                hold.getExpiresAt());
+    }
+}
@@ -3,6 +3,7 @@ package roomescape.reservation.repository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.stereotype.Repository;
@@ -10,10 +11,16 @@ import roomescape.reservation.domain.Reservation;
 
 @Repository
 public interface ReservationRepository extends ListCrudRepository<Reservation, Long> {
-    List<Reservation> findByMemberId(Long memberId);
+    List<Reservation> findByMemberIdAndDateGreaterThanEqualOrderByDateAscTimeStartAtAscIdAsc(
+            Long memberId, LocalDate date);
+
+    List<Reservation> findByMemberIdAndDateLessThanOrderByDateDescTimeStartAtDescIdDesc(
+            Long memberId, LocalDate date, Pageable pageable);
 
     Optional<Reservation> findByDateAndTimeIdAndThemeId(LocalDate date, Long timeId, Long themeId);
 
+    boolean existsByDateAndTimeIdAndThemeId(LocalDate date, Long timeId, Long themeId);
+
     @Query("""
             SELECT r FROM Reservation AS r
             WHERE (:themeId IS NULL OR r.theme.id = :themeId)
@@ -1,12 +1,16 @@
 package roomescape.reservation.service;
 
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 import roomescape.member.domain.Member;
 import roomescape.member.repository.MemberRepository;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.service.OutboxEventRecorder;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.dto.ReservationCreateRequest;
 import roomescape.reservation.dto.ReservationResponse;
@@ -22,17 +26,21 @@ public class ReservationCreateService {
     private final MemberRepository memberRepository;
     private final TimeRepository timeRepository;
     private final ThemeRepository themeRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
 
     public ReservationCreateService(ReservationRepository reservationRepository,
                                     MemberRepository memberRepository,
                                     TimeRepository timeRepository,
-                                    ThemeRepository themeRepository) {
+                                    ThemeRepository themeRepository,
+                                    OutboxEventRecorder outboxEventRecorder) {
         this.reservationRepository = reservationRepository;
         this.memberRepository = memberRepository;
         this.timeRepository = timeRepository;
         this.themeRepository = themeRepository;
+        this.outboxEventRecorder = outboxEventRecorder;
     }
 
+    @Timed("roomescape.reservation.create")
     @Transactional
     public ReservationResponse createReservation(ReservationCreateRequest request) {
         Reservation reservation = makeReservation(
@@ -40,6 +48,7 @@ public class ReservationCreateService {
         return saveReservation(reservation);
     }
 
+    @Timed("roomescape.reservation.create")
     @Transactional
     public ReservationResponse createReservation(ReservationCreateRequest request, Long memberId) {
         Reservation reservation = makeReservation(
@@ -56,29 +65,31 @@ public class ReservationCreateService {
 
     private Member findMemberByMemberId(Long memberId) {
         return memberRepository.findById(memberId)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 멤버가 존재하지 않습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
     private ReservationTime findTimeByTimeId(Long timeId) {
         return timeRepository.findById(timeId)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 예약 시간이 존재하지 않습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.TIME_NOT_FOUND));
     }
 
     private Theme findThemeByThemeId(Long themeId) {
         return themeRepository.findById(themeId)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 테마가 존재하지 않습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.THEME_NOT_FOUND));
     }
 
     private ReservationResponse saveReservation(Reservation reservation) {
         validateIsAfterFromNow(reservation);
 
         Reservation createdReservation = reservationRepository.save(reservation);
+        outboxEventRecorder.record(OutboxEventType.RESERVATION_CREATED,
+                createdReservation, createdReservation.getMember().getId());
         return ReservationResponse.from(createdReservation);
     }
 
     private void validateIsAfterFromNow(Reservation reservation) {
         if (reservation.isBefore(LocalDateTime.now())) {
-            throw new BadArgumentRequestException("예약은 현재 시간 이후여야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.PAST_RESERVATION);
         }
     }
 }
@@ -1,10 +1,16 @@
 package roomescape.reservation.service;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.service.OutboxEventRecorder;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.repository.ReservationRepository;
 import roomescape.waiting.domain.Waiting;
@@ -15,25 +21,46 @@ public class ReservationDeleteService {
 
     private final ReservationRepository reservationRepository;
     private final WaitingRepository waitingRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final Counter waitingPromotionCounter;
 
-    public ReservationDeleteService(ReservationRepository reservationRepository, WaitingRepository waitingRepository) {
+    public ReservationDeleteService(ReservationRepository reservationRepository,
+                                    WaitingRepository waitingRepository,
+                                    OutboxEventRecorder outboxEventRecorder,
+                                    MeterRegistry meterRegistry) {
         this.reservationRepository = reservationRepository;
         this.waitingRepository = waitingRepository;
+        this.outboxEventRecorder = outboxEventRecorder;
+        this.waitingPromotionCounter = meterRegistry.counter("roomescape.waiting.promotion");
     }
 
+    @Timed("roomescape.reservation.delete")
     @Transactional
     public void deleteReservation(Long reservationId) {
         Reservation reservation = findReservation(reservationId);
         validateIsAfterFromNow(reservation);
 
         findHighPriorityWaiting(reservationId).ifPresentOrElse(
-                Waiting::confirmReservation,
-                () -> reservationRepository.deleteById(reservationId));
+                this::promoteWaiting,
+                () -> removeReservation(reservation));
+    }
+
+    private void promoteWaiting(Waiting waiting) {
+        waiting.confirmReservation();
+        waitingPromotionCounter.increment();
+        outboxEventRecorder.record(OutboxEventType.RESERVATION_PROMOTED,
+                waiting.getReservation(), waiting.getMember().getId());
+    }
+
+    private void removeReservation(Reservation reservation) {
+        outboxEventRecorder.record(OutboxEventType.RESERVATION_DELETED,
+                reservation, reservation.getMember().getId());
+        reservationRepository.deleteById(reservation.getId());
     }
 
     private Reservation findReservation(Long id) {
         return reservationRepository.findById(id)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 예약을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.RESERVATION_NOT_FOUND));
     }
 
     private Optional<Waiting> findHighPriorityWaiting(Long reservationId) {
@@ -42,7 +69,7 @@ public class ReservationDeleteService {
 
     private void validateIsAfterFromNow(Reservation reservation) {
         if (reservation.isBefore(LocalDateTime.now())) {
-            throw new BadArgumentRequestException("예약은 현재 날짜 이후여야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.PAST_RESERVATION_DELETION);
         }
     }
 }
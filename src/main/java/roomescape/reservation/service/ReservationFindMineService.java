@@ -1,10 +1,20 @@
 package roomescape.reservation.service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.config.concurrent.ParallelQueryExecutor;
+import roomescape.config.datasource.ReadYourWritesWindow;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 import roomescape.reservation.dto.MyReservationResponse;
 import roomescape.reservation.repository.ReservationRepository;
 import roomescape.waiting.domain.Waiting;
@@ -14,33 +24,76 @@ import roomescape.waiting.repository.WaitingRepository;
 public class ReservationFindMineService {
     private static final Comparator<MyReservationResponse> RESERVATION_SORTING_COMPARATOR = Comparator
             .comparing(MyReservationResponse::date).thenComparing(MyReservationResponse::startAt);
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     private final ReservationRepository reservationRepository;
     private final WaitingRepository waitingRepository;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TransactionTemplate primaryTransactionTemplate;
 
     public ReservationFindMineService(ReservationRepository reservationRepository,
-                                      WaitingRepository waitingRepository) {
+                                      WaitingRepository waitingRepository,
+                                      ParallelQueryExecutor parallelQueryExecutor,
+                                      PlatformTransactionManager transactionManager) {
         this.reservationRepository = reservationRepository;
         this.waitingRepository = waitingRepository;
+        this.parallelQueryExecutor = parallelQueryExecutor;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public CompletableFuture<List<MyReservationResponse>> findMyReservations(Long memberId) {
+        LocalDate today = LocalDate.now();
+        TransactionTemplate transactionTemplate = selectTransactionTemplate();
+        CompletableFuture<List<MyReservationResponse>> reservations =
+                supplyInTransaction(transactionTemplate, () -> findUpcomingReservations(memberId, today));
+        CompletableFuture<List<MyReservationResponse>> waitings =
+                supplyInTransaction(transactionTemplate, () -> findUpcomingWaitings(memberId, today));
+
+        return reservations.thenCombine(waitings, this::makeMyReservations);
     }
 
     @Transactional(readOnly = true)
-    public List<MyReservationResponse> findMyReservations(Long memberId) {
-        List<MyReservationResponse> reservations = findReservations(memberId);
-        List<MyReservationResponse> waitings = findWaitings(memberId);
+    public List<MyReservationResponse> findMyReservationHistory(Long memberId, int page, int size) {
+        validatePage(page, size);
+        return reservationRepository.findByMemberIdAndDateLessThanOrderByDateDescTimeStartAtDescIdDesc(
+                        memberId, LocalDate.now(), PageRequest.of(page, size))
+                .stream()
+                .map(MyReservationResponse::from)
+                .toList();
+    }
+
+    private void validatePage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new BadArgumentRequestException(ErrorCode.INVALID_PAGE_REQUEST);
+        }
+    }
+
+    private TransactionTemplate selectTransactionTemplate() {
+        if (ReadYourWritesWindow.isPinnedToPrimary()) {
+            return primaryTransactionTemplate;
+        }
+        return readOnlyTransactionTemplate;
+    }
 
-        return makeMyReservations(reservations, waitings);
+    private <T> CompletableFuture<T> supplyInTransaction(TransactionTemplate transactionTemplate, Supplier<T> query) {
+        return parallelQueryExecutor.supply(() -> transactionTemplate.execute(status -> query.get()));
     }
 
-    private List<MyReservationResponse> findReservations(Long memberId) {
-        return reservationRepository.findByMemberId(memberId)
+    private List<MyReservationResponse> findUpcomingReservations(Long memberId, LocalDate today) {
+        return reservationRepository.findByMemberIdAndDateGreaterThanEqualOrderByDateAscTimeStartAtAscIdAsc(
+                        memberId, today)
                 .stream()
                 .map(MyReservationResponse::from)
                 .toList();
     }
 
-    private List<MyReservationResponse> findWaitings(Long memberId) {
-        return waitingRepository.findByMemberId(memberId)
+    private List<MyReservationResponse> findUpcomingWaitings(Long memberId, LocalDate today) {
+        return waitingRepository
+                .findByMemberIdAndReservationDateGreaterThanEqualOrderByReservationDateAscReservationTimeStartAtAscIdAsc(
+                        memberId, today)
                 .stream()
                 .map(waiting -> MyReservationResponse.from(waiting, countOrderOfWaiting(waiting)))
                 .toList();
@@ -53,10 +106,22 @@ public class ReservationFindMineService {
 
     private List<MyReservationResponse> makeMyReservations(List<MyReservationResponse> reservations,
                                                            List<MyReservationResponse> waitings) {
-        List<MyReservationResponse> response = new ArrayList<>();
-        response.addAll(reservations);
-        response.addAll(waitings);
-        response.sort(RESERVATION_SORTING_COMPARATOR);
+        List<MyReservationResponse> response = new ArrayList<>(reservations.size() + waitings.size());
+        int reservationIndex = 0;
+        int waitingIndex = 0;
+        while (reservationIndex < reservations.size() && waitingIndex < waitings.size()) {
+            MyReservationResponse reservation = reservations.get(reservationIndex);
+            MyReservationResponse waiting = waitings.get(waitingIndex);
+            if (RESERVATION_SORTING_COMPARATOR.compare(waiting, reservation) < 0) {
+                response.add(waiting);
+                waitingIndex++;
+            } else {
+                response.add(reservation);
+                reservationIndex++;
+            }
+        }
+        response.addAll(reservations.subList(reservationIndex, reservations.size()));
+        response.addAll(waitings.subList(waitingIndex, waitings.size()));
         return response;
     }
 }
@@ -2,8 +2,12 @@ package roomescape.reservation.service;
 
 import java.util.List;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.domain.ReservationSearch;
+import roomescape.reservation.dto.CompactReservationsResponse;
 import roomescape.reservation.dto.ReservationResponse;
 import roomescape.reservation.dto.ReservationSearchRequest;
 import roomescape.reservation.repository.ReservationRepository;
@@ -16,6 +20,7 @@ public class ReservationFindService {
         this.reservationRepository = reservationRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<ReservationResponse> findReservations() {
         return reservationRepository.findAll()
                 .stream()
@@ -23,18 +28,34 @@ public class ReservationFindService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public CompactReservationsResponse findCompactReservations() {
+        return CompactReservationsResponse.from(reservationRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
     public List<ReservationResponse> findReservations(ReservationSearchRequest request) {
-        ReservationSearch search = request.createReservationSearch();
-        return reservationRepository.findByCondition(
-                        search.memberId(), search.themeId(), search.startDate(), search.endDate())
+        return searchReservations(request)
                 .stream()
                 .map(ReservationResponse::from)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public CompactReservationsResponse findCompactReservations(ReservationSearchRequest request) {
+        return CompactReservationsResponse.from(searchReservations(request));
+    }
+
+    @Transactional(readOnly = true)
     public ReservationResponse findReservation(Long id) {
         return reservationRepository.findById(id)
                 .map(ReservationResponse::from)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 예약을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.RESERVATION_NOT_FOUND));
+    }
+
+    private List<Reservation> searchReservations(ReservationSearchRequest request) {
+        ReservationSearch search = request.createReservationSearch();
+        return reservationRepository.findByCondition(
+                search.memberId(), search.themeId(), search.startDate(), search.endDate());
     }
 }
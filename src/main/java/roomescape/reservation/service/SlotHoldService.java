@@ -0,0 +1,173 @@
+package roomescape.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+import roomescape.reservation.domain.SlotHold;
+import roomescape.reservation.domain.SlotHold.Slot;
+import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.dto.SlotHoldResponse;
+import roomescape.reservation.repository.ReservationRepository;
+
+@Service
+public class SlotHoldService {
+    private final ReservationCreateService reservationCreateService;
+    private final ReservationRepository reservationRepository;
+    private final Duration holdTtl;
+    private final SlotHoldTimerWheel timerWheel;
+    private final Map<Slot, SlotHold> holdsBySlot = new ConcurrentHashMap<>();
+    private final Map<String, SlotHold> holdsById = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SlotHold>> holdsByMember = new ConcurrentHashMap<>();
+    private final int maxHoldsPerMember;
+    private final Counter grantedCounter;
+    private final Counter rejectedCounter;
+    private final Counter expiredCounter;
+
+    public SlotHoldService(ReservationCreateService reservationCreateService,
+                           ReservationRepository reservationRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${roomescape.hold.ttl}") Duration holdTtl,
+                           @Value("${roomescape.hold.tick}") Duration tick,
+                           @Value("${roomescape.hold.max-per-member}") int maxHoldsPerMember) {
+        this.reservationCreateService = reservationCreateService;
+        this.reservationRepository = reservationRepository;
+        this.holdTtl = holdTtl;
+        this.maxHoldsPerMember = maxHoldsPerMember;
+        this.timerWheel = new SlotHoldTimerWheel(tick, holdTtl, LocalDateTime.now());
+        this.grantedCounter = meterRegistry.counter("roomescape.hold", "result", "granted");
+        this.rejectedCounter = meterRegistry.counter("roomescape.hold", "result", "rejected");
+        this.expiredCounter = meterRegistry.counter("roomescape.hold", "result", "expired");
+        meterRegistry.gaugeMapSize("roomescape.hold.active", Tags.empty(), holdsById);
+    }
+
+    public SlotHoldResponse holdSlot(ReservationCreateRequest request, Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        SlotHold hold = new SlotHold(memberId, request.date(), request.timeId(), request.themeId(), now.plus(holdTtl));
+
+        reserveMemberQuota(hold, now);
+        try {
+            grantHold(hold, now);
+            validateIsNotReserved(hold);
+        } catch (RuntimeException e) {
+            release(hold);
+            throw e;
+        }
+        timerWheel.schedule(hold);
+        return SlotHoldResponse.from(hold);
+    }
+
+    public ReservationResponse confirmHold(String holdId, Long memberId) {
+        SlotHold hold = findOwnHold(holdId, memberId);
+        try {
+            return reservationCreateService.createReservation(hold.toRequest(), memberId);
+        } finally {
+            release(hold);
+        }
+    }
+
+    public void cancelHold(String holdId, Long memberId) {
+        release(findOwnHold(holdId, memberId));
+    }
+
+    public ReservationResponse createReservation(ReservationCreateRequest request, Long memberId) {
+        Slot slot = Slot.from(request);
+        validateIsNotHeldByOthers(slot, memberId);
+        ReservationResponse response = reservationCreateService.createReservation(request, memberId);
+        releaseOwnHold(slot, memberId);
+        return response;
+    }
+
+    @Scheduled(fixedRateString = "${roomescape.hold.tick}")
+    public void reapExpiredHolds() {
+        timerWheel.advance(LocalDateTime.now())
+                .stream()
+                .filter(this::release)
+                .forEach(hold -> expiredCounter.increment());
+    }
+
+    private void reserveMemberQuota(SlotHold hold, LocalDateTime now) {
+        Set<SlotHold> memberHolds = holdsByMember.compute(hold.getMemberId(), (memberId, currentHolds) -> {
+            Set<SlotHold> holds = currentHolds == null ? ConcurrentHashMap.newKeySet() : currentHolds;
+            holds.removeIf(heldHold -> heldHold.isExpired(now) || heldHold.getSlot().equals(hold.getSlot()));
+            if (holds.size() < maxHoldsPerMember) {
+                holds.add(hold);
+            }
+            return holds.isEmpty() ? null : holds;
+        });
+        if (memberHolds == null || !memberHolds.contains(hold)) {
+            rejectedCounter.increment();
+            throw new BadArgumentRequestException(ErrorCode.TOO_MANY_HOLDS);
+        }
+    }
+
+    private void grantHold(SlotHold hold, LocalDateTime now) {
+        SlotHold grantedHold = holdsBySlot.compute(hold.getSlot(),
+                (slot, currentHold) -> canReplace(currentHold, hold.getMemberId(), now) ? hold : currentHold);
+        if (grantedHold != hold) {
+            rejectedCounter.increment();
+            throw new BadArgumentRequestException(ErrorCode.SLOT_HELD_BY_OTHER);
+        }
+        holdsById.put(hold.getId(), hold);
+        grantedCounter.increment();
+    }
+
+    private boolean canReplace(SlotHold currentHold, Long memberId, LocalDateTime now) {
+        if (currentHold == null) {
+            return true;
+        }
+        if (currentHold.isExpired(now) || currentHold.isOwner(memberId)) {
+            holdsById.remove(currentHold.getId());
+            return true;
+        }
+        return false;
+    }
+
+    private void validateIsNotReserved(SlotHold hold) {
+        if (reservationRepository.existsByDateAndTimeIdAndThemeId(
+                hold.getDate(), hold.getTimeId(), hold.getThemeId())) {
+            throw new BadArgumentRequestException(ErrorCode.SLOT_ALREADY_BOOKED);
+        }
+    }
+
+    private void validateIsNotHeldByOthers(Slot slot, Long memberId) {
+        SlotHold hold = holdsBySlot.get(slot);
+        if (hold != null && !hold.isExpired(LocalDateTime.now()) && !hold.isOwner(memberId)) {
+            throw new BadArgumentRequestException(ErrorCode.SLOT_HELD_BY_OTHER);
+        }
+    }
+
+    private void releaseOwnHold(Slot slot, Long memberId) {
+        SlotHold hold = holdsBySlot.get(slot);
+        if (hold != null && hold.isOwner(memberId)) {
+            release(hold);
+        }
+    }
+
+    private SlotHold findOwnHold(String holdId, Long memberId) {
+        SlotHold hold = holdsById.get(holdId);
+        if (hold == null || hold.isExpired(LocalDateTime.now()) || !hold.isOwner(memberId)) {
+            throw new BadArgumentRequestException(ErrorCode.HOLD_NOT_FOUND);
+        }
+        return hold;
+    }
+
+    private boolean release(SlotHold hold) {
+        holdsByMember.computeIfPresent(hold.getMemberId(), (memberId, holds) -> {
+            holds.remove(hold);
+            return holds.isEmpty() ? null : holds;
+        });
+        holdsById.remove(hold.getId(), hold);
+        return holdsBySlot.remove(hold.getSlot(), hold);
+    }
+}
@@ -0,0 +1,62 @@
+package roomescape.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import roomescape.reservation.domain.SlotHold;
+
+public class SlotHoldTimerWheel {
+    private final long tickMillis;
+    private final List<Queue<SlotHold>> buckets;
+    private long currentTick;
+
+    public SlotHoldTimerWheel(Duration tick, Duration horizon, LocalDateTime now) {
+        this.tickMillis = tick.toMillis();
+        int wheelSize = (int) (horizon.toMillis() / tickMillis) + 2;
+        this.buckets = IntStream.range(0, wheelSize)
+                .<Queue<SlotHold>>mapToObj(i -> new ConcurrentLinkedQueue<>())
+                .toList();
+        this.currentTick = toTick(now);
+    }
+
+    public void schedule(SlotHold hold) {
+        bucketOf(toTick(hold.getExpiresAt())).add(hold);
+    }
+
+    public synchronized List<SlotHold> advance(LocalDateTime now) {
+        long targetTick = toTick(now);
+        long lastTick = Math.min(targetTick, currentTick + buckets.size() - 1);
+        List<SlotHold> expiredHolds = new ArrayList<>();
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            drainExpired(bucketOf(tick), now, expiredHolds);
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expiredHolds;
+    }
+
+    private void drainExpired(Queue<SlotHold> bucket, LocalDateTime now, List<SlotHold> expiredHolds) {
+        List<SlotHold> pendingHolds = new ArrayList<>();
+        SlotHold hold;
+        while ((hold = bucket.poll()) != null) {
+            if (hold.isExpired(now)) {
+                expiredHolds.add(hold);
+            } else {
+                pendingHolds.add(hold);
+            }
+        }
+        bucket.addAll(pendingHolds);
+    }
+
+    private Queue<SlotHold> bucketOf(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+    private long toTick(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / tickMillis;
+    }
+}
@@ -0,0 +1,138 @@
+package roomescape.seed;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("seed")
+public class SeedDataGenerator implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SeedDataGenerator.class);
+    private static final String THUMBNAIL = "https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg";
+    private static final String ENCODED_PASSWORD = "$2a$10$Yujycz88cJerr/KEvt.33edV7kZl0YzWKJ5qnxIrJSxsCmmCIRyWi";
+    private static final int MINUTES_OF_DAY = 24 * 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeedProperties properties;
+
+    public SeedDataGenerator(JdbcTemplate jdbcTemplate, SeedProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        validateProperties();
+        long startMillis = System.currentTimeMillis();
+        Random random = new Random(properties.randomSeed());
+
+        seedTimes();
+        seedThemes();
+        seedMembers();
+        seedReservations(random);
+        seedWaitings();
+        log.info("시드 데이터 생성 완료 ({}ms)", System.currentTimeMillis() - startMillis);
+    }
+
+    private void validateProperties() {
+        if (properties.timeCount() > MINUTES_OF_DAY) {
+            throw new IllegalStateException("예약 시간은 하루의 분 수를 넘을 수 없습니다.");
+        }
+        if (properties.waitingDepth() >= properties.memberCount()) {
+            throw new IllegalStateException("예약 대기 깊이는 멤버 수보다 작아야 합니다.");
+        }
+    }
+
+    private void seedTimes() {
+        int intervalMinutes = MINUTES_OF_DAY / properties.timeCount();
+        batchInsert("INSERT INTO reservation_time(start_at) VALUES (?)", properties.timeCount(),
+                index -> new Object[]{Time.valueOf(LocalTime.MIN.plusMinutes((long) index * intervalMinutes))});
+    }
+
+    private void seedThemes() {
+        batchInsert("INSERT INTO theme(name, description, thumbnail) VALUES (?, ?, ?)", properties.themeCount(),
+                index -> new Object[]{"테마" + (index + 1), "시드 테마 " + (index + 1), THUMBNAIL});
+    }
+
+    private void seedMembers() {
+        jdbcTemplate.update("INSERT INTO member(name, email, role, password) VALUES (?, ?, ?, ?)",
+                "관리자", "admin@abc.com", "ADMIN", ENCODED_PASSWORD);
+        batchInsert("INSERT INTO member(name, email, role, password) VALUES (?, ?, ?, ?)", properties.memberCount(),
+                index -> new Object[]{"회원" + (index + 1), "member" + (index + 1) + "@seed.test", "USER", ENCODED_PASSWORD});
+    }
+
+    private void seedReservations(Random random) {
+        int slotsPerDay = properties.themeCount() * properties.timeCount();
+        int dayCount = (properties.reservationCount() + slotsPerDay - 1) / slotsPerDay;
+        LocalDate startDate = LocalDate.now().minusDays(dayCount / 2);
+
+        batchInsert("INSERT INTO reservation(member_id, date, time_id, theme_id) VALUES (?, ?, ?, ?)",
+                properties.reservationCount(),
+                index -> new Object[]{
+                        randomMemberId(random),
+                        Date.valueOf(startDate.plusDays(index / slotsPerDay)),
+                        (long) (index / properties.themeCount() % properties.timeCount() + 1),
+                        (long) (index % properties.themeCount() + 1)});
+    }
+
+    private long randomMemberId(Random random) {
+        return random.nextInt(properties.memberCount()) + 2L;
+    }
+
+    private void seedWaitings() {
+        List<long[]> hotReservations = jdbcTemplate.query("""
+                        SELECT id, member_id FROM reservation
+                        WHERE date >= CURRENT_DATE
+                        ORDER BY date, id
+                        LIMIT ?
+                        """,
+                (resultSet, rowNum) -> new long[]{resultSet.getLong("id"), resultSet.getLong("member_id")},
+                properties.hotReservationCount());
+        LocalDateTime baseCreatedAt = LocalDateTime.now().minusMinutes(properties.waitingDepth());
+
+        batchInsert("INSERT INTO waiting(reservation_id, member_id, created_at) VALUES (?, ?, ?)",
+                hotReservations.size() * properties.waitingDepth(),
+                index -> {
+                    long[] reservation = hotReservations.get(index / properties.waitingDepth());
+                    int order = index % properties.waitingDepth();
+                    return new Object[]{
+                            reservation[0],
+                            waitingMemberId(reservation[1], order),
+                            Timestamp.valueOf(baseCreatedAt.plusMinutes(order))};
+                });
+    }
+
+    private long waitingMemberId(long ownerId, int order) {
+        long userIndex = (ownerId - 2 + order + 1) % properties.memberCount();
+        return userIndex + 2;
+    }
+
+    private void batchInsert(String sql, int count, IntFunction<Object[]> rowFactory) {
+        List<Object[]> batch = new ArrayList<>(properties.batchSize());
+        for (int index = 0; index < count; index++) {
+            batch.add(rowFactory.apply(index));
+            if (batch.size() == properties.batchSize()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        log.info("{} 건 저장: {}", count, sql);
+    }
+}
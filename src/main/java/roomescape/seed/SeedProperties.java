@@ -0,0 +1,14 @@
+package roomescape.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "roomescape.seed")
+public record SeedProperties(int memberCount,
+                             int themeCount,
+                             int timeCount,
+                             int reservationCount,
+                             int hotReservationCount,
+                             int waitingDepth,
+                             int batchSize,
+                             long randomSeed) {
+}
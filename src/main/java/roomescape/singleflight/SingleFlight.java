@@ -0,0 +1,16 @@
+package roomescape.singleflight;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+    String name();
+
+    String freshFor();
+
+    String staleFor();
+}
@@ -0,0 +1,75 @@
+package roomescape.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import roomescape.config.concurrent.ParallelQueryExecutor;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+    private final Map<String, SingleFlightGroup> groups = new ConcurrentHashMap<>();
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+
+    public SingleFlightAspect(Environment environment, MeterRegistry meterRegistry,
+                              ParallelQueryExecutor parallelQueryExecutor) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = runnable -> parallelQueryExecutor.supply(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) {
+        SingleFlightGroup group = groups.computeIfAbsent(singleFlight.name(), name -> createGroup(singleFlight));
+        return group.execute(Arrays.asList(joinPoint.getArgs()), () -> proceed(joinPoint));
+    }
+
+    @Scheduled(fixedRateString = "${roomescape.single-flight.eviction-interval}")
+    public void evictExpiredFlights() {
+        groups.values().forEach(SingleFlightGroup::evictExpired);
+    }
+
+    private SingleFlightGroup createGroup(SingleFlight singleFlight) {
+        SingleFlightGroup group = new SingleFlightGroup(
+                resolveDuration(singleFlight.freshFor()),
+                resolveDuration(singleFlight.staleFor()),
+                refreshExecutor,
+                System::nanoTime);
+        meterRegistry.gauge("roomescape.single-flight.keys", Tags.of("name", singleFlight.name()),
+                group, SingleFlightGroup::size);
+        return group;
+    }
+
+    private Duration resolveDuration(String value) {
+        return DurationStyle.detectAndParse(environment.resolveRequiredPlaceholders(value));
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
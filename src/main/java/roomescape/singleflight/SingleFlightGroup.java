@@ -0,0 +1,117 @@
+package roomescape.singleflight;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class SingleFlightGroup {
+    private final Map<Object, Flight> flights = new ConcurrentHashMap<>();
+    private final long freshNanos;
+    private final long expireNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    public SingleFlightGroup(Duration freshFor, Duration staleFor, Executor refreshExecutor, LongSupplier nanoClock) {
+        this.freshNanos = freshFor.toNanos();
+        this.expireNanos = freshFor.plus(staleFor).toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    public Object execute(Object key, Supplier<Object> loader) {
+        long now = nanoClock.getAsLong();
+        Flight candidate = new Flight();
+        Flight flight = flights.compute(key, (ignored, found) -> found == null || found.isExpired(now) ? candidate : found);
+        if (flight == candidate) {
+            return load(key, candidate, loader);
+        }
+        if (flight.isStale(now) && flight.refreshing.compareAndSet(false, true)) {
+            refresh(key, flight, loader);
+        }
+        return flight.await();
+    }
+
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        flights.values().removeIf(flight -> flight.isExpired(now));
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    private Object load(Object key, Flight flight, Supplier<Object> loader) {
+        try {
+            Object value = loader.get();
+            flight.complete(value, nanoClock.getAsLong());
+            if (expireNanos == 0) {
+                flights.remove(key, flight);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.value.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void refresh(Object key, Flight stale, Supplier<Object> loader) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Flight refreshed = new Flight();
+                    refreshed.complete(loader.get(), nanoClock.getAsLong());
+                    flights.replace(key, stale, refreshed);
+                } catch (RuntimeException e) {
+                    stale.refreshing.set(false);
+                } catch (Error e) {
+                    stale.refreshing.set(false);
+                    throw e;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false);
+        }
+    }
+
+    private class Flight {
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long loadedAt;
+
+        private void complete(Object result, long now) {
+            loadedAt = now;
+            value.complete(result);
+        }
+
+        private boolean isStale(long now) {
+            return isLoaded() && now - loadedAt >= freshNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return isLoaded() && now - loadedAt >= expireNanos;
+        }
+
+        private boolean isLoaded() {
+            return value.isDone() && !value.isCompletedExceptionally();
+        }
+
+        private Object await() {
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
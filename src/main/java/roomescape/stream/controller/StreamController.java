@@ -0,0 +1,32 @@
+package roomescape.stream.controller;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.auth.dto.LoggedInMember;
+import roomescape.stream.service.SlotEventBroadcaster;
+
+@RestController
+public class StreamController {
+    private final SlotEventBroadcaster slotEventBroadcaster;
+
+    public StreamController(SlotEventBroadcaster slotEventBroadcaster) {
+        this.slotEventBroadcaster = slotEventBroadcaster;
+    }
+
+    @GetMapping(path = "/times/available/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailableTimes(
+            @RequestParam @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam Long themeId) {
+        return slotEventBroadcaster.subscribeSlots(themeId, date);
+    }
+
+    @GetMapping(path = "/reservations/accounts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyReservations(LoggedInMember member) {
+        return slotEventBroadcaster.subscribeMember(member.id());
+    }
+}
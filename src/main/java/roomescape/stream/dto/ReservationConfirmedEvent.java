@@ -0,0 +1,4 @@
+package roomescape.stream.dto;
+
+public record ReservationConfirmedEvent(Long reservationId) {
+}
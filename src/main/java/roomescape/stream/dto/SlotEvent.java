@@ -0,0 +1,4 @@
+package roomescape.stream.dto;
+
+public record SlotEvent(Long timeId, boolean alreadyBooked) {
+}
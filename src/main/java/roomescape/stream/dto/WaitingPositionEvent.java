@@ -0,0 +1,4 @@
+package roomescape.stream.dto;
+
+public record WaitingPositionEvent(Long reservationId, Long waitingId, Long order) {
+}
@@ -0,0 +1,188 @@
+package roomescape.stream.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.outbox.domain.OutboxEvent;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.service.OutboxEventListener;
+import roomescape.stream.dto.ReservationConfirmedEvent;
+import roomescape.stream.dto.SlotEvent;
+import roomescape.stream.dto.WaitingPositionEvent;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.repository.WaitingRepository;
+
+@Component
+public class SlotEventBroadcaster implements OutboxEventListener, DisposableBean {
+    private static final String SLOT_EVENT_NAME = "slot";
+    private static final String WAITING_EVENT_NAME = "waiting";
+    private static final String RESERVATION_EVENT_NAME = "reservation";
+    private static final Set<OutboxEventType> WAITING_QUEUE_CHANGING_TYPES = Set.of(
+            OutboxEventType.WAITING_CREATED, OutboxEventType.WAITING_CANCELED, OutboxEventType.RESERVATION_PROMOTED);
+
+    private final WaitingRepository waitingRepository;
+    private final SseEmitters<SlotKey> slotEmitters;
+    private final SseEmitters<Long> memberEmitters;
+    private final ThreadPoolExecutor fanOutExecutor;
+    private final Counter rejectedCounter;
+
+    public SlotEventBroadcaster(WaitingRepository waitingRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${roomescape.stream.timeout}") Duration timeout,
+                                @Value("${roomescape.stream.fan-out-queue-capacity}") int fanOutQueueCapacity) {
+        this.waitingRepository = waitingRepository;
+        this.slotEmitters = new SseEmitters<>(timeout);
+        this.memberEmitters = new SseEmitters<>(timeout);
+        this.fanOutExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutQueueCapacity), new CustomizableThreadFactory("stream-fan-out-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rejectedCounter = meterRegistry.counter("roomescape.stream.fan-out.rejected");
+        new ExecutorServiceMetrics(fanOutExecutor, "roomescape.stream.fan-out", Tags.empty()).bindTo(meterRegistry);
+        meterRegistry.gauge("roomescape.stream.connections", Tags.of("stream", "slot"),
+                slotEmitters, SseEmitters::size);
+        meterRegistry.gauge("roomescape.stream.connections", Tags.of("stream", "member"),
+                memberEmitters, SseEmitters::size);
+    }
+
+    public SseEmitter subscribeSlots(Long themeId, LocalDate date) {
+        return slotEmitters.subscribe(new SlotKey(themeId, date));
+    }
+
+    public SseEmitter subscribeMember(Long memberId) {
+        return memberEmitters.subscribe(memberId);
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        Broadcast broadcast = collectBroadcast(events);
+        if (broadcast.isEmpty()) {
+            return;
+        }
+        publishAfterCommit(() -> send(broadcast));
+    }
+
+    @Scheduled(fixedDelayString = "${roomescape.stream.heartbeat-interval}")
+    public void heartbeat() {
+        submit(() -> {
+            slotEmitters.heartbeat();
+            memberEmitters.heartbeat();
+        });
+    }
+
+    @Override
+    public void destroy() {
+        fanOutExecutor.shutdown();
+    }
+
+    Broadcast collectBroadcast(List<OutboxEvent> events) {
+        List<SlotMessage> slotMessages = events.stream()
+                .filter(event -> event.getType() == OutboxEventType.RESERVATION_CREATED
+                        || event.getType() == OutboxEventType.RESERVATION_DELETED)
+                .map(this::toSlotMessage)
+                .toList();
+        if (memberEmitters.isEmpty()) {
+            return new Broadcast(slotMessages, List.of());
+        }
+        List<MemberMessage> memberMessages = new ArrayList<>();
+        events.stream()
+                .filter(event -> event.getType() == OutboxEventType.RESERVATION_PROMOTED)
+                .map(event -> new MemberMessage(event.getMemberId(), RESERVATION_EVENT_NAME,
+                        new ReservationConfirmedEvent(event.getReservationId())))
+                .forEach(memberMessages::add);
+        memberMessages.addAll(collectWaitingPositions(events));
+        return new Broadcast(slotMessages, memberMessages);
+    }
+
+    private SlotMessage toSlotMessage(OutboxEvent event) {
+        boolean alreadyBooked = event.getType() == OutboxEventType.RESERVATION_CREATED;
+        return new SlotMessage(new SlotKey(event.getThemeId(), event.getDate()),
+                new SlotEvent(event.getTimeId(), alreadyBooked));
+    }
+
+    private List<MemberMessage> collectWaitingPositions(List<OutboxEvent> events) {
+        Set<Long> reservationIds = events.stream()
+                .filter(event -> WAITING_QUEUE_CHANGING_TYPES.contains(event.getType()))
+                .map(OutboxEvent::getReservationId)
+                .collect(Collectors.toSet());
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Waiting>> waitingsByReservationId = waitingRepository
+                .findByReservationIdInOrderByCreatedAtAsc(reservationIds)
+                .stream()
+                .collect(Collectors.groupingBy(waiting -> waiting.getReservation().getId()));
+
+        List<MemberMessage> messages = new ArrayList<>();
+        waitingsByReservationId.forEach((reservationId, waitings) -> {
+            for (int i = 0; i < waitings.size(); i++) {
+                Waiting waiting = waitings.get(i);
+                messages.add(new MemberMessage(waiting.getMember().getId(), WAITING_EVENT_NAME,
+                        new WaitingPositionEvent(reservationId, waiting.getId(), (long) i + 1)));
+            }
+        });
+        return messages;
+    }
+
+    private void publishAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(task);
+            }
+        });
+    }
+
+    private void submit(Runnable task) {
+        try {
+            fanOutExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+        }
+    }
+
+    private void send(Broadcast broadcast) {
+        broadcast.slotMessages().forEach(message ->
+                slotEmitters.send(message.key(), SLOT_EVENT_NAME, message.event()));
+        broadcast.memberMessages().forEach(message ->
+                memberEmitters.send(message.memberId(), message.name(), message.data()));
+    }
+
+    record SlotKey(Long themeId, LocalDate date) {
+    }
+
+    record SlotMessage(SlotKey key, SlotEvent event) {
+    }
+
+    record MemberMessage(Long memberId, String name, Object data) {
+    }
+
+    record Broadcast(List<SlotMessage> slotMessages, List<MemberMessage> memberMessages) {
+        boolean isEmpty() {
+            return slotMessages.isEmpty() && memberMessages.isEmpty();
+        }
+    }
+}
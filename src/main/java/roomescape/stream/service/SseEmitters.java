@@ -0,0 +1,73 @@
+package roomescape.stream.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+public class SseEmitters<K> {
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final Map<K, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public SseEmitters(Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter subscribe(K key) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.compute(key, (k, subscribers) -> {
+            Set<SseEmitter> keySubscribers = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            keySubscribers.add(emitter);
+            return keySubscribers;
+        });
+        emitter.onCompletion(() -> unsubscribe(key, emitter));
+        emitter.onTimeout(() -> unsubscribe(key, emitter));
+        emitter.onError(e -> unsubscribe(key, emitter));
+        return emitter;
+    }
+
+    public void send(K key, String name, Object data) {
+        Set<SseEmitter> subscribers = emitters.get(key);
+        if (subscribers == null) {
+            return;
+        }
+        subscribers.forEach(emitter -> send(key, emitter, SseEmitter.event().name(name).data(data)));
+    }
+
+    public void heartbeat() {
+        emitters.forEach((key, subscribers) -> subscribers
+                .forEach(emitter -> send(key, emitter, SseEmitter.event().comment(HEARTBEAT_COMMENT))));
+    }
+
+    public boolean isEmpty() {
+        return emitters.isEmpty();
+    }
+
+    public int size() {
+        return emitters.values()
+                .stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+
+    private void send(K key, SseEmitter emitter, SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(key, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(K key, SseEmitter emitter) {
+        emitters.computeIfPresent(key, (k, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
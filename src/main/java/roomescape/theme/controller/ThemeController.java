@@ -1,6 +1,7 @@
 package roomescape.theme.controller;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,7 +33,7 @@ public class ThemeController {
 
     @GetMapping("/popular")
     public List<ThemeResponse> findPopularThemes() {
-        return themeService.findPopularThemes();
+        return themeService.findPopularThemes(LocalDate.now());
     }
 
     @PostMapping
@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import java.util.Objects;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 
 @Embeddable
 public record ThemeDescription(
@@ -15,7 +16,7 @@ public record ThemeDescription(
     public ThemeDescription {
         Objects.requireNonNull(description);
         if (description.isEmpty() || description.length() > MAX_LENGTH) {
-            throw new BadArgumentRequestException("테마 설명은 1글자 이상 255글자 이하이어야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.INVALID_THEME_DESCRIPTION_LENGTH);
         }
     }
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import java.util.Objects;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 
 @Embeddable
 public record ThemeName(
@@ -15,7 +16,7 @@ public record ThemeName(
     public ThemeName {
         Objects.requireNonNull(name);
         if (name.isEmpty() || name.length() > MAX_LENGTH) {
-            throw new BadArgumentRequestException("테마 이름은 1글자 이상 30글자 미만이어야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.INVALID_THEME_NAME_LENGTH);
         }
     }
 }
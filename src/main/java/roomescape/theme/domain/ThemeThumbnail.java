@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import java.util.Objects;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 
 @Embeddable
 public record ThemeThumbnail(
@@ -15,7 +16,7 @@ public record ThemeThumbnail(
     public ThemeThumbnail {
         Objects.requireNonNull(thumbnail);
         if (thumbnail.isEmpty() || thumbnail.length() > MAX_LENGTH) {
-            throw new BadArgumentRequestException("테마 썸네일은 1글자 이상 500글자 이하이어야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.INVALID_THEME_THUMBNAIL_LENGTH);
         }
     }
 }
@@ -2,7 +2,11 @@ package roomescape.theme.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.singleflight.SingleFlight;
 import roomescape.theme.domain.Theme;
 import roomescape.theme.dto.ThemeCreateRequest;
 import roomescape.theme.dto.ThemeResponse;
@@ -12,6 +16,7 @@ import roomescape.time.domain.PopularThemePeriod;
 @Service
 public class ThemeService {
     private static final int POPULAR_THEME_LIMIT = 10;
+    private static final String THEMES_CACHE_NAME = "themes";
 
     private final ThemeRepository themeRepository;
 
@@ -19,6 +24,8 @@ public class ThemeService {
         this.themeRepository = themeRepository;
     }
 
+    @Cacheable(THEMES_CACHE_NAME)
+    @Transactional(readOnly = true)
     public List<ThemeResponse> findThemes() {
         return themeRepository.findAll()
                 .stream()
@@ -26,8 +33,12 @@ public class ThemeService {
                 .toList();
     }
 
-    public List<ThemeResponse> findPopularThemes() {
-        PopularThemePeriod popularThemePeriod = new PopularThemePeriod();
+    @SingleFlight(name = "popular-themes",
+            freshFor = "${roomescape.single-flight.popular-themes.fresh-for}",
+            staleFor = "${roomescape.single-flight.popular-themes.stale-for}")
+    @Transactional(readOnly = true)
+    public List<ThemeResponse> findPopularThemes(LocalDate currentDate) {
+        PopularThemePeriod popularThemePeriod = new PopularThemePeriod(currentDate);
         LocalDate startDate = popularThemePeriod.getStartDate();
         LocalDate endDate = popularThemePeriod.getEndDate();
 
@@ -37,11 +48,13 @@ public class ThemeService {
                 .toList();
     }
 
+    @CacheEvict(value = THEMES_CACHE_NAME, allEntries = true)
     public ThemeResponse createTheme(ThemeCreateRequest request) {
         Theme createdTheme = themeRepository.save(request.createTheme());
         return ThemeResponse.from(createdTheme);
     }
 
+    @CacheEvict(value = THEMES_CACHE_NAME, allEntries = true)
     public void deleteTheme(Long id) {
         themeRepository.deleteById(id);
     }
@@ -10,8 +10,7 @@ public class PopularThemePeriod {
     private final LocalDate startDate;
     private final LocalDate endDate;
 
-    public PopularThemePeriod() {
-        LocalDate currentDate = LocalDate.now();
+    public PopularThemePeriod(LocalDate currentDate) {
         this.startDate = currentDate.minusDays(POPULAR_THEME_START_DATE_BOUNDARY);
         this.endDate = currentDate.minusDays(POPULAR_THEME_END_DATE_BOUNDARY);
     }
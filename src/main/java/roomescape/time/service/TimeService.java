@@ -2,8 +2,11 @@ package roomescape.time.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import roomescape.singleflight.SingleFlight;
 import roomescape.time.domain.ReservationTime;
 import roomescape.time.dto.AvailableTimeResponse;
 import roomescape.time.dto.TimeCreateRequest;
@@ -12,12 +15,16 @@ import roomescape.time.repository.TimeRepository;
 
 @Service
 public class TimeService {
+    private static final String TIMES_CACHE_NAME = "times";
+
     private final TimeRepository timeRepository;
 
     public TimeService(TimeRepository timeRepository) {
         this.timeRepository = timeRepository;
     }
 
+    @Cacheable(TIMES_CACHE_NAME)
+    @Transactional(readOnly = true)
     public List<TimeResponse> findTimes() {
         return timeRepository.findAll()
                 .stream()
@@ -25,6 +32,9 @@ public class TimeService {
                 .toList();
     }
 
+    @SingleFlight(name = "available-times",
+            freshFor = "${roomescape.single-flight.available-times.fresh-for}",
+            staleFor = "${roomescape.single-flight.available-times.stale-for}")
     @Transactional(readOnly = true)
     public List<AvailableTimeResponse> findAvailableTimes(LocalDate date, Long themeId) {
         List<ReservationTime> allTime = timeRepository.findAll();
@@ -36,11 +46,13 @@ public class TimeService {
                 .toList();
     }
 
+    @CacheEvict(value = TIMES_CACHE_NAME, allEntries = true)
     public TimeResponse createTime(TimeCreateRequest request) {
         ReservationTime createdTime = timeRepository.save(request.createReservationTime());
         return TimeResponse.from(createdTime);
     }
 
+    @CacheEvict(value = TIMES_CACHE_NAME, allEntries = true)
     public void deleteTime(Long id) {
         timeRepository.deleteById(id);
     }
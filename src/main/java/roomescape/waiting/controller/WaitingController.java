@@ -1,5 +1,6 @@
 package roomescape.waiting.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -7,10 +8,14 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import roomescape.auth.dto.LoggedInMember;
+import roomescape.config.datasource.ReadYourWritesWindow;
+import roomescape.idempotency.IdempotencyScope;
+import roomescape.idempotency.IdempotencyStore;
 import roomescape.waiting.dto.WaitingRequest;
 import roomescape.waiting.dto.WaitingResponse;
 import roomescape.waiting.service.WaitingService;
@@ -19,24 +24,37 @@ import roomescape.waiting.service.WaitingService;
 @RequestMapping("/waitings")
 public class WaitingController {
     private final WaitingService waitingService;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final IdempotencyStore idempotencyStore;
 
-    public WaitingController(WaitingService waitingService) {
+    public WaitingController(WaitingService waitingService,
+                             ReadYourWritesWindow readYourWritesWindow,
+                             IdempotencyStore idempotencyStore) {
         this.waitingService = waitingService;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @PostMapping
-    public ResponseEntity<WaitingResponse> createWaiting(@RequestBody WaitingRequest request,
-                                                         LoggedInMember requestMember) {
-        WaitingResponse response = waitingService.createWaiting(request, requestMember.id());
+    public ResponseEntity<WaitingResponse> createWaiting(
+            @RequestBody WaitingRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            LoggedInMember requestMember,
+            HttpServletRequest servletRequest) {
+        return idempotencyStore.execute(IdempotencyScope.from(servletRequest), idempotencyKey, requestMember.id(), request, () -> {
+            WaitingResponse response = waitingService.createWaiting(request, requestMember.id());
+            readYourWritesWindow.recordWrite(requestMember.id());
 
-        URI location = URI.create("/waitings/" + response.id());
-        return ResponseEntity.created(location)
-                .body(response);
+            URI location = URI.create("/waitings/" + response.id());
+            return ResponseEntity.created(location)
+                    .body(response);
+        });
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteWaiting(@PathVariable Long id, LoggedInMember requestMember) {
         waitingService.deleteWaiting(id, requestMember.id());
+        readYourWritesWindow.recordWrite(requestMember.id());
     }
 }
@@ -1,6 +1,8 @@
 package roomescape.waiting.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.repository.ListCrudRepository;
@@ -10,10 +12,13 @@ import roomescape.waiting.domain.Waiting;
 
 @Repository
 public interface WaitingRepository extends ListCrudRepository<Waiting, Long> {
-    List<Waiting> findByMemberId(Long memberId);
+    List<Waiting> findByMemberIdAndReservationDateGreaterThanEqualOrderByReservationDateAscReservationTimeStartAtAscIdAsc(
+            Long memberId, LocalDate date);
 
     Optional<Waiting> findTopByReservationIdOrderByCreatedAtAsc(Long reservationId);
 
+    List<Waiting> findByReservationIdInOrderByCreatedAtAsc(Collection<Long> reservationIds);
+
     Long countByReservationAndCreatedAtLessThanEqual(Reservation reservation, LocalDateTime dateTime);
 
     boolean existsByReservationIdAndMemberId(Long reservationId, Long memberId);
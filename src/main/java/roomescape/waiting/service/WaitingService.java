@@ -1,12 +1,16 @@
 package roomescape.waiting.service;
 
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
 import roomescape.member.domain.Member;
 import roomescape.member.repository.MemberRepository;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.service.OutboxEventRecorder;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.repository.ReservationRepository;
 import roomescape.waiting.domain.Waiting;
@@ -19,15 +23,19 @@ public class WaitingService {
     private final WaitingRepository waitingRepository;
     private final ReservationRepository reservationRepository;
     private final MemberRepository memberRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
 
     public WaitingService(WaitingRepository waitingRepository,
                           ReservationRepository reservationRepository,
-                          MemberRepository memberRepository) {
+                          MemberRepository memberRepository,
+                          OutboxEventRecorder outboxEventRecorder) {
         this.waitingRepository = waitingRepository;
         this.reservationRepository = reservationRepository;
         this.memberRepository = memberRepository;
+        this.outboxEventRecorder = outboxEventRecorder;
     }
 
+    @Transactional(readOnly = true)
     public List<WaitingResponse> findWaitings() {
         return waitingRepository.findAll()
                 .stream()
@@ -37,9 +45,10 @@ public class WaitingService {
 
     private Waiting findWaiting(Long waitingId) {
         return waitingRepository.findById(waitingId)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 예약 대기가 존재하지 않습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.WAITING_NOT_FOUND));
     }
 
+    @Timed("roomescape.waiting.create")
     @Transactional
     public WaitingResponse createWaiting(WaitingRequest request, Long requestMemberId) {
         Reservation reservation = findReservation(request);
@@ -48,26 +57,27 @@ public class WaitingService {
 
         validateIsAvailable(waiting);
         waitingRepository.save(waiting);
+        outboxEventRecorder.record(OutboxEventType.WAITING_CREATED, reservation, member.getId());
         return WaitingResponse.from(waiting);
     }
 
     private Reservation findReservation(WaitingRequest request) {
         return reservationRepository.findByDateAndTimeIdAndThemeId(
                         request.date(), request.timeId(), request.themeId())
-                .orElseThrow(() -> new BadArgumentRequestException("아직 예약되지 않았습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.RESERVATION_NOT_BOOKED));
     }
 
     private Member findMember(Long memberId) {
         return memberRepository.findById(memberId)
-                .orElseThrow(() -> new BadArgumentRequestException("해당 유저가 존재하지 않습니다."));
+                .orElseThrow(() -> new BadArgumentRequestException(ErrorCode.WAITING_MEMBER_NOT_FOUND));
     }
 
     private void validateIsAvailable(Waiting waiting) {
         if (waiting.isBefore(LocalDateTime.now())) {
-            throw new BadArgumentRequestException("예약 대기는 현재 시간 이후이어야 합니다.");
+            throw new BadArgumentRequestException(ErrorCode.PAST_WAITING);
         }
         if (isAlreadyWaited(waiting.getReservation(), waiting.getMember())) {
-            throw new BadArgumentRequestException("이미 예약 했습니다.");
+            throw new BadArgumentRequestException(ErrorCode.ALREADY_RESERVED_BY_MEMBER);
         }
     }
 
@@ -76,21 +86,31 @@ public class WaitingService {
                 || waitingRepository.existsByReservationIdAndMemberId(reservation.getId(), member.getId());
     }
 
+    @Timed("roomescape.waiting.delete")
+    @Transactional
     public void deleteWaiting(Long id) {
-        waitingRepository.deleteById(id);
+        waitingRepository.findById(id)
+                .ifPresent(this::cancelWaiting);
     }
 
+    @Timed("roomescape.waiting.delete")
     @Transactional
     public void deleteWaiting(Long waitingId, Long requestMemberId) {
         Waiting waiting = findWaiting(waitingId);
 
         validateIsOwner(waiting, requestMemberId);
+        cancelWaiting(waiting);
+    }
+
+    private void cancelWaiting(Waiting waiting) {
         waitingRepository.delete(waiting);
+        outboxEventRecorder.record(OutboxEventType.WAITING_CANCELED,
+                waiting.getReservation(), waiting.getMember().getId());
     }
 
     private void validateIsOwner(Waiting waiting, Long requestMemberId) {
         if (waiting.isNotWaitingOwner(requestMemberId)) {
-            throw new BadArgumentRequestException("해당 예약을 취소할 수 없습니다.");
+            throw new BadArgumentRequestException(ErrorCode.WAITING_NOT_CANCELABLE);
         }
     }
 }
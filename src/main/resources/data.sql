@@ -11,13 +11,13 @@ INSERT INTO theme(name, description, thumbnail)
 VALUES ('레벨4 탈출', '우테코 레벨4 탈출기!', 'https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg');
 
 INSERT INTO member(name, email, role, password)
-VALUES ('관리자', 'admin@abc.com', 'ADMIN', '1234');
+VALUES ('관리자', 'admin@abc.com', 'ADMIN', '$2a$10$Yujycz88cJerr/KEvt.33edV7kZl0YzWKJ5qnxIrJSxsCmmCIRyWi');
 INSERT INTO member(name, email, role, password)
-VALUES ('브리', 'bri@abc.com', 'USER', '1234');
+VALUES ('브리', 'bri@abc.com', 'USER', '$2a$10$Yujycz88cJerr/KEvt.33edV7kZl0YzWKJ5qnxIrJSxsCmmCIRyWi');
 INSERT INTO member(name, email, role, password)
-VALUES ('브라운', 'brown@abc.com', 'USER', '1234');
+VALUES ('브라운', 'brown@abc.com', 'USER', '$2a$10$Yujycz88cJerr/KEvt.33edV7kZl0YzWKJ5qnxIrJSxsCmmCIRyWi');
 INSERT INTO member(name, email, role, password)
-VALUES ('오리', 'duck@abc.com', 'USER', '1234');
+VALUES ('오리', 'duck@abc.com', 'USER', '$2a$10$Yujycz88cJerr/KEvt.33edV7kZl0YzWKJ5qnxIrJSxsCmmCIRyWi');
 
 INSERT INTO reservation (member_id, date, time_id, theme_id)
 VALUES (2, CURRENT_DATE - 1, 1, 1);
@@ -0,0 +1,54 @@
+CREATE TABLE member
+(
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name     VARCHAR(20)            NOT NULL,
+    email    VARCHAR(100)           NOT NULL,
+    password VARCHAR(100)           NOT NULL,
+    role     ENUM ('ADMIN', 'USER') NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (name),
+    UNIQUE (email)
+);
+
+CREATE TABLE theme
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(30)  NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    thumbnail   VARCHAR(500) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (name)
+);
+
+CREATE TABLE reservation_time
+(
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    start_at TIME NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (start_at)
+);
+
+CREATE TABLE reservation
+(
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    member_id BIGINT NOT NULL,
+    date      DATE   NOT NULL,
+    time_id   BIGINT NOT NULL,
+    theme_id  BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (date, time_id, theme_id),
+    FOREIGN KEY (member_id) REFERENCES member (id),
+    FOREIGN KEY (time_id) REFERENCES reservation_time (id),
+    FOREIGN KEY (theme_id) REFERENCES theme (id)
+);
+
+CREATE TABLE waiting
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    reservation_id BIGINT       NOT NULL,
+    member_id      BIGINT       NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    FOREIGN KEY (reservation_id) REFERENCES reservation (id),
+    FOREIGN KEY (member_id) REFERENCES member (id)
+);
@@ -0,0 +1,12 @@
+CREATE TABLE outbox_event
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type           ENUM ('RESERVATION_CREATED', 'RESERVATION_DELETED', 'RESERVATION_PROMOTED', 'WAITING_CREATED', 'WAITING_CANCELED') NOT NULL,
+    reservation_id BIGINT       NOT NULL,
+    member_id      BIGINT       NOT NULL,
+    theme_id       BIGINT       NOT NULL,
+    time_id        BIGINT       NOT NULL,
+    date           DATE         NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,16 @@
+CREATE TABLE login_audit
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type       ENUM ('LOGIN_SUCCEEDED', 'LOGIN_FAILED', 'AUTHENTICATED') NOT NULL,
+    member_id  BIGINT,
+    email      VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE member_last_seen
+(
+    member_id    BIGINT       NOT NULL,
+    last_seen_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (member_id)
+);
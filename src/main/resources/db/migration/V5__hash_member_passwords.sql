@@ -0,0 +1,3 @@
+UPDATE member
+SET password = '$2a$10$Yujycz88cJerr/KEvt.33edV7kZl0YzWKJ5qnxIrJSxsCmmCIRyWi'
+WHERE password = '1234';
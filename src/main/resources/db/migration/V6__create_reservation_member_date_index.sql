@@ -0,0 +1 @@
+CREATE INDEX idx_reservation_member_id_date ON reservation (member_id, date);
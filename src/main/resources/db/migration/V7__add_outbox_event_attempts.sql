@@ -0,0 +1,4 @@
+ALTER TABLE outbox_event
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE outbox_event
+    ADD COLUMN parked_at TIMESTAMP(6);
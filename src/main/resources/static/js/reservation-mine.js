@@ -1,3 +1,6 @@
+const HISTORY_PAGE_SIZE = 20;
+let historyPage = 0;
+
 document.addEventListener('DOMContentLoaded', () => {
     fetch('/reservations/accounts') // 내 예약 목록 조회 API 호출
         .then(response => {
@@ -6,14 +9,43 @@ document.addEventListener('DOMContentLoaded', () => {
         })
         .then(render)
         .catch(error => console.error('Error fetching reservations:', error));
+
+    document.getElementById('history-btn').addEventListener('click', fetchHistory);
+
+    const source = new EventSource('/reservations/accounts/stream'); // 내 예약 대기 순번 변경 구독
+    source.addEventListener('waiting', event => {
+        const waiting = JSON.parse(event.data);
+        const row = document.querySelector(`tr[data-waiting-id="${waiting.waitingId}"]`);
+        if (row) row.cells[3].textContent = `${waiting.order}번째 예약 대기`;
+    });
+    source.addEventListener('reservation', () => window.location.reload());
 });
 
+function fetchHistory() {
+    fetch(`/reservations/accounts/history?page=${historyPage}&size=${HISTORY_PAGE_SIZE}`) // 지난 예약 목록 조회 API 호출
+        .then(response => {
+            if (response.status === 200) return response.json();
+            throw new Error('Read failed');
+        })
+        .then(data => {
+            historyPage++;
+            appendRows(data);
+            if (data.length < HISTORY_PAGE_SIZE) document.getElementById('history-btn').remove();
+        })
+        .catch(error => console.error('Error fetching reservation history:', error));
+}
+
 function render(data) {
+    document.getElementById('table-body').innerHTML = '';
+    appendRows(data);
+}
+
+function appendRows(data) {
     const tableBody = document.getElementById('table-body');
-    tableBody.innerHTML = '';
 
     data.forEach(item => {
         const row = tableBody.insertRow();
+        if (item.waitingId) row.setAttribute('data-waiting-id', item.waitingId);
 
         const theme = item.themeName;
         const date = item.date;
@@ -1,8 +1,6 @@
 let isEditing = false;
 const RESERVATION_API_ENDPOINT = '/reservations';
-const TIME_API_ENDPOINT = '/times';
-const THEME_API_ENDPOINT = '/themes';
-const MEMBER_API_ENDPOINT = '/members';
+const BOOTSTRAP_API_ENDPOINT = '/admin/bootstrap/reservation';
 const timesOptions = [];
 const themesOptions = [];
 const membersOptions = [];
@@ -11,13 +9,17 @@ document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
   document.getElementById('filter-form').addEventListener('submit', applyFilter);
 
-  requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
-      .catch(error => console.error('Error fetching reservations:', error));
-
-  fetchTimes();
-  fetchThemes();
-  fetchMembers();
+  requestRead(BOOTSTRAP_API_ENDPOINT) // 예약, 시간, 테마, 멤버 목록을 한 번에 조회
+      .then(data => {
+        renderLoginState(data.member);
+        render(data.reservations);
+        timesOptions.push(...data.times);
+        themesOptions.push(...data.themes);
+        populateSelect('theme', themesOptions, 'name');
+        membersOptions.push(...data.members);
+        populateSelect('member', membersOptions, 'name');
+      })
+      .catch(error => console.error('Error fetching bootstrap:', error));
 });
 
 function render(data) {
@@ -38,32 +40,6 @@ function render(data) {
   });
 }
 
-function fetchTimes() {
-  requestRead(TIME_API_ENDPOINT)
-      .then(data => {
-        timesOptions.push(...data);
-      })
-      .catch(error => console.error('Error fetching time:', error));
-}
-
-function fetchThemes() {
-  requestRead(THEME_API_ENDPOINT)
-      .then(data => {
-        themesOptions.push(...data);
-        populateSelect('theme', themesOptions, 'name');
-      })
-      .catch(error => console.error('Error fetching theme:', error));
-}
-
-function fetchMembers() {
-  requestRead(MEMBER_API_ENDPOINT)
-      .then(data => {
-        membersOptions.push(...data);
-        populateSelect('member', membersOptions, 'name');
-      })
-      .catch(error => console.error('Error fetching member:', error));
-}
-
 function populateSelect(selectId, options, textProperty) {
   const select = document.getElementById(selectId);
   options.forEach(optionData => {
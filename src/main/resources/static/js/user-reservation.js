@@ -1,11 +1,22 @@
-const THEME_API_ENDPOINT = '/themes';
+const BOOTSTRAP_API_ENDPOINT = '/bootstrap/reservation';
 const WAITING_API_ENDPOINT = '/waitings';
 const TIME_AVAILABLE_API_ENDPOINT = '/times/available';
+const TIME_AVAILABLE_STREAM_ENDPOINT = '/times/available/stream';
+
+const HOLD_API_ENDPOINT = '/reservations/holds';
+
+let availableTimeSource = null;
+let currentHold = null;
+let themes = [];
 
 document.addEventListener('DOMContentLoaded', () => {
-  requestRead(THEME_API_ENDPOINT)
-      .then(renderTheme)
-      .catch(error => console.error('Error fetching times:', error));
+  requestRead(BOOTSTRAP_API_ENDPOINT) // 로그인 상태와 테마 목록을 한 번에 조회
+      .then(data => {
+        renderLoginState(data.member);
+        themes = data.themes;
+        renderTheme(themes);
+      })
+      .catch(error => console.error('Error fetching bootstrap:', error));
 
   flatpickr("#datepicker", {
     inline: true,
@@ -28,6 +39,7 @@ document.addEventListener('DOMContentLoaded', () => {
       document.querySelectorAll('.time-slot').forEach(slot => slot.classList.remove('active'));
       event.target.classList.add('active');
       checkDateAndThemeAndTime();
+      holdSelectedSlot();
     }
   });
 
@@ -35,10 +47,10 @@ document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('wait-button').addEventListener('click', onWaitButtonClick);
 });
 
-function renderTheme(themes) {
+function renderTheme(themeOptions) {
   const themeSlots = document.getElementById('theme-slots');
   themeSlots.innerHTML = '';
-  themes.forEach(theme => {
+  themeOptions.forEach(theme => {
     const name = theme.name;
     const themeId = theme.id;
 
@@ -67,9 +79,7 @@ function checkDate() {
     const timeSlots = document.getElementById('time-slots');
     timeSlots.innerHTML = '';
 
-    requestRead(THEME_API_ENDPOINT)
-        .then(renderTheme)
-        .catch(error => console.error('Error fetching times:', error));
+    renderTheme(themes);
   }
 }
 
@@ -93,9 +103,26 @@ function fetchAvailableTimes(date, themeId) {
     if (response.status === 200) return response.json();
     throw new Error('Read failed');
   }).then(renderAvailableTimes)
+  .then(() => subscribeAvailableTimes(date, themeId))
   .catch(error => console.error("Error fetching available times:", error));
 }
 
+function subscribeAvailableTimes(date, themeId) {
+  if (availableTimeSource) {
+    availableTimeSource.close();
+  }
+  availableTimeSource = new EventSource(TIME_AVAILABLE_STREAM_ENDPOINT + `?date=${date}&themeId=${themeId}`);
+  availableTimeSource.addEventListener('slot', event => {
+    const slot = JSON.parse(event.data);
+    const timeSlot = document.querySelector(`.time-slot[data-time-id="${slot.timeId}"]`);
+    if (!timeSlot) return;
+    timeSlot.setAttribute('data-time-booked', slot.alreadyBooked);
+    if (timeSlot.classList.contains('active')) {
+      checkDateAndThemeAndTime();
+    }
+  });
+}
+
 function renderAvailableTimes(times) {
   const timeSection = document.getElementById("time-section");
   if (timeSection.classList.contains("disabled")) {
@@ -158,13 +185,7 @@ function onReservationButtonClick() {
       memberId: selectedMemberId
     };
 
-    fetch('/reservations', {
-      method: 'POST',
-      headers: {
-        'Content-Type': 'application/json',
-      },
-      body: JSON.stringify(reservationData)
-    })
+    requestReservation(reservationData)
         .then(response => {
           if (!response.ok) throw new Error('Reservation failed');
           return response.json();
@@ -182,6 +203,49 @@ function onReservationButtonClick() {
   }
 }
 
+function requestReservation(reservationData) {
+  if (currentHold && currentHold.timeId == reservationData.timeId) { // 선점한 시간은 확정 API로 예약
+    return fetch(`${HOLD_API_ENDPOINT}/${currentHold.id}/confirm`, {method: 'POST'});
+  }
+  return fetch('/reservations', {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json',
+    },
+    body: JSON.stringify(reservationData)
+  });
+}
+
+function holdSelectedSlot() {
+  const selectedDate = document.getElementById("datepicker").value;
+  const selectedThemeId = document.querySelector('.theme-slot.active')?.getAttribute('data-theme-id');
+  const selectedTimeElement = document.querySelector('.time-slot.active');
+  releaseCurrentHold();
+  if (!selectedDate || !selectedThemeId || selectedTimeElement.getAttribute('data-time-booked') === 'true') return;
+
+  fetch(HOLD_API_ENDPOINT, {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json',
+    },
+    body: JSON.stringify({
+      date: selectedDate,
+      themeId: selectedThemeId,
+      timeId: selectedTimeElement.getAttribute('data-time-id')
+    })
+  }).then(response => {
+    if (response.status === 201) return response.json();
+    throw new Error('Hold failed');
+  }).then(hold => currentHold = hold)
+  .catch(error => console.error("Error holding slot:", error));
+}
+
+function releaseCurrentHold() {
+  if (!currentHold) return;
+  fetch(`${HOLD_API_ENDPOINT}/${currentHold.id}`, {method: 'DELETE'});
+  currentHold = null;
+}
+
 function requestRead(endpoint) {
   return fetch(endpoint)
       .then(response => {
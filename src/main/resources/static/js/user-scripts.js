@@ -1,5 +1,7 @@
 document.addEventListener('DOMContentLoaded', function () {
-  updateUIBasedOnLogin();
+  if (typeof BOOTSTRAP_API_ENDPOINT === 'undefined') { // 부트스트랩 API를 쓰는 페이지는 응답에 로그인 상태가 포함됨
+    updateUIBasedOnLogin();
+  }
 });
 
 document.getElementById('logout-btn').addEventListener('click', function (event) {
@@ -30,21 +32,27 @@ function updateUIBasedOnLogin() {
         }
         return response.json(); // 응답 본문을 JSON으로 파싱
       })
-      .then(data => {
-        // 응답에서 사용자 이름을 추출하여 UI 업데이트
-        document.getElementById('profile-name').textContent = data.name; // 프로필 이름 설정
-        document.querySelector('.nav-item.dropdown').style.display = 'block'; // 드롭다운 메뉴 표시
-        document.querySelector('.nav-item a[href="/login"]').parentElement.style.display = 'none'; // 로그인 버튼 숨김
-      })
+      .then(renderLoginState)
       .catch(error => {
         // 에러 처리 또는 로그아웃 상태일 때 UI 업데이트
         console.error('Error:', error);
-        document.getElementById('profile-name').textContent = 'Profile'; // 기본 텍스트로 재설정
-        document.querySelector('.nav-item.dropdown').style.display = 'none'; // 드롭다운 메뉴 숨김
-        document.querySelector('.nav-item a[href="/login"]').parentElement.style.display = 'block'; // 로그인 버튼 표시
+        renderLoginState(null);
       });
 }
 
+function renderLoginState(member) {
+  if (member) {
+    // 응답에서 사용자 이름을 추출하여 UI 업데이트
+    document.getElementById('profile-name').textContent = member.name; // 프로필 이름 설정
+    document.querySelector('.nav-item.dropdown').style.display = 'block'; // 드롭다운 메뉴 표시
+    document.querySelector('.nav-item a[href="/login"]').parentElement.style.display = 'none'; // 로그인 버튼 숨김
+    return;
+  }
+  document.getElementById('profile-name').textContent = 'Profile'; // 기본 텍스트로 재설정
+  document.querySelector('.nav-item.dropdown').style.display = 'none'; // 드롭다운 메뉴 숨김
+  document.querySelector('.nav-item a[href="/login"]').parentElement.style.display = 'block'; // 로그인 버튼 표시
+}
+
 // 드롭다운 메뉴 토글
 document.getElementById("navbarDropdown").addEventListener('click', function (e) {
   e.preventDefault();
@@ -2,25 +2,34 @@ package roomescape.advice;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import roomescape.advice.dto.ErrorResponse;
 import roomescape.auth.exception.AdminAuthorizationException;
 import roomescape.auth.exception.AuthenticationException;
 import roomescape.auth.exception.NotLoginAuthenticationException;
 import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+import roomescape.exception.TooManyRequestsException;
 
 class GlobalExceptionHandlerTest {
-    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+    private static final int RETRY_AFTER_SECONDS = 2;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler globalExceptionHandler =
+            new GlobalExceptionHandler(meterRegistry, RETRY_AFTER_SECONDS);
 
     @DisplayName("BadArgumentRequestException가 던져지면 400 에러를 반환한다.")
     @Test
     void handleBadArgumentRequestExceptionTest() {
-        BadArgumentRequestException exception = new BadArgumentRequestException("예외 메시지");
+        BadArgumentRequestException exception = new BadArgumentRequestException(ErrorCode.EMPTY_SEARCH_CONDITION);
         ResponseEntity<ErrorResponse> expected = ResponseEntity.badRequest()
-                .body(new ErrorResponse("예외 메시지"));
+                .body(new ErrorResponse("EMPTY_SEARCH_CONDITION", "검색 조건은 1개 이상 있어야 합니다."));
 
         ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleBadArgumentRequestException(exception);
 
@@ -32,7 +41,7 @@ class GlobalExceptionHandlerTest {
     void handleNullPointerExceptionTest() {
         NullPointerException exception = new NullPointerException();
         ResponseEntity<ErrorResponse> expected = ResponseEntity.badRequest()
-                .body(new ErrorResponse("잘못된 요청입니다."));
+                .body(new ErrorResponse("INVALID_REQUEST", "잘못된 요청입니다."));
 
         ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleNullPointerException(exception);
 
@@ -44,7 +53,7 @@ class GlobalExceptionHandlerTest {
     void handleAuthenticationExceptionTest() {
         AuthenticationException exception = new NotLoginAuthenticationException();
         ResponseEntity<ErrorResponse> expected = ResponseEntity.status(401)
-                .body(new ErrorResponse(exception.getMessage()));
+                .body(new ErrorResponse("NOT_LOGGED_IN", exception.getMessage()));
 
         ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleAuthenticationException(exception);
 
@@ -56,7 +65,7 @@ class GlobalExceptionHandlerTest {
     void handleAdminAuthorizationExceptionTest() {
         AdminAuthorizationException exception = new AdminAuthorizationException();
         ResponseEntity<ErrorResponse> expected = ResponseEntity.status(403)
-                .body(new ErrorResponse(exception.getMessage()));
+                .body(new ErrorResponse("ADMIN_ONLY", exception.getMessage()));
 
         ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleAdminAuthorizationException(exception);
 
@@ -68,22 +77,73 @@ class GlobalExceptionHandlerTest {
     void handleDataIntegrityViolationExceptionTest() {
         DataIntegrityViolationException exception = new DataIntegrityViolationException("예외 메시지");
         ResponseEntity<ErrorResponse> expected = ResponseEntity.status(400)
-                .body(new ErrorResponse("잘못된 요청입니다."));
+                .body(new ErrorResponse("INVALID_REQUEST", "잘못된 요청입니다."));
 
         ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleDataIntegrityViolationException(exception);
 
         assertThat(actual).isEqualTo(expected);
     }
 
+    @DisplayName("요청 한도를 넘으면 Retry-After 헤더와 함께 429 에러를 반환한다.")
+    @Test
+    void handleTooManyRequestsExceptionTest() {
+        TooManyRequestsException exception = new TooManyRequestsException(ErrorCode.TOO_MANY_BOOKING_REQUESTS, 3);
+        ResponseEntity<ErrorResponse> expected = ResponseEntity.status(429)
+                .header("Retry-After", "3")
+                .body(new ErrorResponse("TOO_MANY_BOOKING_REQUESTS", "예약 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+
+        ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleTooManyRequestsException(exception);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("커넥션을 얻지 못하면 Retry-After 헤더와 함께 503 에러를 반환한다.")
+    @Test
+    void handleServiceUnavailableExceptionTest() {
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("예외 메시지");
+        ResponseEntity<ErrorResponse> expected = ResponseEntity.status(503)
+                .header("Retry-After", String.valueOf(RETRY_AFTER_SECONDS))
+                .body(new ErrorResponse("SERVICE_UNAVAILABLE", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleServiceUnavailableException(exception);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
     @DisplayName("예상치 못한 에러가 발생하면 500 에러를 반환한다.")
     @Test
     void handleUnexpectedExceptionTest() {
         RuntimeException exception = new ArithmeticException();
         ResponseEntity<ErrorResponse> expected = ResponseEntity.internalServerError()
-                .body(new ErrorResponse("예상치 못한 예외가 발생했습니다. 관리자에게 문의하세요."));
+                .body(new ErrorResponse("UNEXPECTED_ERROR", "예상치 못한 예외가 발생했습니다. 관리자에게 문의하세요."));
 
         ResponseEntity<ErrorResponse> actual = globalExceptionHandler.handleUnexpectedException(exception);
 
         assertThat(actual).isEqualTo(expected);
     }
+
+    @DisplayName("예외를 처리하면 상태 코드, 에러 코드, 예외 종류별로 에러 응답 수를 기록한다.")
+    @Test
+    void errorResponseMetricTest() {
+        BadArgumentRequestException exception = new BadArgumentRequestException(ErrorCode.EMPTY_SEARCH_CONDITION);
+
+        globalExceptionHandler.handleBadArgumentRequestException(exception);
+        globalExceptionHandler.handleBadArgumentRequestException(exception);
+
+        double actual = meterRegistry.get("roomescape.error.response")
+                .tag("status", "400")
+                .tag("code", "EMPTY_SEARCH_CONDITION")
+                .tag("exception", "BadArgumentRequestException")
+                .counter()
+                .count();
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @DisplayName("도메인 예외는 스택 트레이스를 수집하지 않는다.")
+    @Test
+    void stacklessExceptionTest() {
+        BadArgumentRequestException exception = new BadArgumentRequestException(ErrorCode.EMPTY_SEARCH_CONDITION);
+
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
 }
@@ -0,0 +1,117 @@
+package roomescape.audit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import roomescape.audit.domain.LoginAuditType;
+import roomescape.audit.dto.LoginAuditEvent;
+import roomescape.audit.repository.LoginAuditBatchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAuditRecorderTest {
+    private static final int BUFFER_CAPACITY = 2;
+
+    @Mock
+    private LoginAuditBatchRepository loginAuditBatchRepository;
+    @Captor
+    private ArgumentCaptor<List<LoginAuditEvent>> eventsCaptor;
+    @Captor
+    private ArgumentCaptor<Map<Long, LocalDateTime>> lastSeenCaptor;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAuditRecorder loginAuditRecorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginAuditRecorder = new LoginAuditRecorder(loginAuditBatchRepository, meterRegistry, BUFFER_CAPACITY, 10);
+    }
+
+    @DisplayName("로그인 기록은 감사 로그로, 인증 기록은 마지막 접속 시각으로만 저장한다.")
+    @Test
+    void flushTest() {
+        loginAuditRecorder.recordLoginSucceeded(1L, "bri@abc.com");
+        loginAuditRecorder.recordAuthenticated(1L);
+
+        loginAuditRecorder.flush();
+
+        verify(loginAuditBatchRepository).saveAll(eventsCaptor.capture());
+        verify(loginAuditBatchRepository).updateLastSeen(lastSeenCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(LoginAuditEvent::type)
+                .containsExactly(LoginAuditType.LOGIN_SUCCEEDED);
+        assertThat(lastSeenCaptor.getValue()).containsOnlyKeys(1L);
+    }
+
+    @DisplayName("애플리케이션이 종료되면 남아 있는 기록을 저장한다.")
+    @Test
+    void destroyTest() {
+        loginAuditRecorder.recordLoginFailed("bri@abc.com");
+
+        loginAuditRecorder.destroy();
+
+        verify(loginAuditBatchRepository).saveAll(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(LoginAuditEvent::type)
+                .containsExactly(LoginAuditType.LOGIN_FAILED);
+    }
+
+    @DisplayName("버퍼가 가득 차면 기록을 버리고 버린 개수를 센다.")
+    @Test
+    void recordTest_whenBufferIsFull() {
+        loginAuditRecorder.recordLoginFailed("bri@abc.com");
+        loginAuditRecorder.recordLoginFailed("bri@abc.com");
+        loginAuditRecorder.recordLoginFailed("bri@abc.com");
+
+        assertThat(meterRegistry.counter("roomescape.audit.dropped").count()).isEqualTo(1);
+    }
+
+    @DisplayName("인증 기록은 버퍼를 차지하지 않아 로그인 기록이 버려지지 않는다.")
+    @Test
+    void recordAuthenticatedTest_doesNotFillBuffer() {
+        for (long memberId = 1; memberId <= BUFFER_CAPACITY * 10; memberId++) {
+            loginAuditRecorder.recordAuthenticated(memberId);
+        }
+        loginAuditRecorder.recordLoginFailed("bri@abc.com");
+        loginAuditRecorder.recordLoginFailed("bri@abc.com");
+
+        assertThat(meterRegistry.counter("roomescape.audit.dropped").count()).isZero();
+    }
+
+    @DisplayName("멤버별로 가장 최근 접속 시각만 저장하고, 저장한 뒤에는 다시 저장하지 않는다.")
+    @Test
+    void flushTest_lastSeen() {
+        loginAuditRecorder.recordAuthenticated(1L);
+        loginAuditRecorder.recordAuthenticated(1L);
+        loginAuditRecorder.recordAuthenticated(2L);
+
+        loginAuditRecorder.flush();
+        loginAuditRecorder.flush();
+
+        verify(loginAuditBatchRepository).updateLastSeen(lastSeenCaptor.capture());
+        assertThat(lastSeenCaptor.getValue()).containsOnlyKeys(1L, 2L);
+    }
+
+    @DisplayName("저장에 실패해도 예외를 던지지 않는다.")
+    @Test
+    void flushTest_whenWriteFails() {
+        loginAuditRecorder.recordLoginFailed("bri@abc.com");
+        willThrow(new IllegalStateException()).given(loginAuditBatchRepository).saveAll(anyList());
+
+        assertThatCode(() -> loginAuditRecorder.flush())
+                .doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("roomescape.audit.flush.failed").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,58 @@
+package roomescape.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.exception.TooManyRequestsException;
+
+class LoginRateLimiterTest {
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginRateLimiter = new LoginRateLimiter(meterRegistry, 2, Duration.ofMinutes(1),
+                3, Duration.ofMinutes(1), 100);
+    }
+
+    @DisplayName("같은 이메일로 허용량을 넘겨 로그인을 시도하면 예외를 던진다.")
+    @Test
+    void validateCanAttemptTest_whenEmailExceeded() {
+        loginRateLimiter.validateCanAttempt("bri@abc.com", "10.0.0.1");
+        loginRateLimiter.validateCanAttempt("BRI@abc.com", "10.0.0.2");
+
+        assertThatThrownBy(() -> loginRateLimiter.validateCanAttempt("bri@abc.com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(meterRegistry.counter("roomescape.auth.rate-limit.rejected", "key", "email").count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("같은 IP로 허용량을 넘겨 로그인을 시도하면 예외를 던진다.")
+    @Test
+    void validateCanAttemptTest_whenIpExceeded() {
+        loginRateLimiter.validateCanAttempt("a@abc.com", "10.0.0.1");
+        loginRateLimiter.validateCanAttempt("b@abc.com", "10.0.0.1");
+        loginRateLimiter.validateCanAttempt("c@abc.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> loginRateLimiter.validateCanAttempt("d@abc.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @DisplayName("다른 이메일과 IP의 시도는 서로 영향을 주지 않는다.")
+    @Test
+    void validateCanAttemptTest_whenKeysDiffer() {
+        loginRateLimiter.validateCanAttempt("bri@abc.com", "10.0.0.1");
+        loginRateLimiter.validateCanAttempt("bri@abc.com", "10.0.0.1");
+
+        assertThatCode(() -> loginRateLimiter.validateCanAttempt("brown@abc.com", "10.0.0.2"))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,88 @@
+package roomescape.bootstrap.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.http.Cookies;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+import roomescape.auth.dto.LoginRequest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/init-test.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class BootstrapControllerTest {
+    private static final int COUNT_OF_RESERVATION = 5;
+    private static final int COUNT_OF_THEME = 3;
+    private static final int COUNT_OF_TIME = 3;
+    private static final int COUNT_OF_MEMBER = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @DisplayName("사용자 예약 페이지의 로그인 상태와 테마 목록을 한 번에 읽을 수 있다.")
+    @Test
+    void findUserReservationBootstrap() {
+        JsonPath response = RestAssured.given().log().all()
+                .cookies(makeCookies("bri@abc.com"))
+                .when().get("/bootstrap/reservation")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath();
+
+        assertThat(response.getString("member.name")).isEqualTo("브리");
+        assertThat(response.getInt("themes.size()")).isEqualTo(COUNT_OF_THEME);
+    }
+
+    @DisplayName("로그인하지 않아도 사용자 예약 페이지의 테마 목록을 읽을 수 있다.")
+    @Test
+    void findUserReservationBootstrap_whenNotLoggedIn() {
+        JsonPath response = RestAssured.given().log().all()
+                .when().get("/bootstrap/reservation")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath();
+
+        assertThat(response.getString("member")).isNull();
+        assertThat(response.getInt("themes.size()")).isEqualTo(COUNT_OF_THEME);
+    }
+
+    @DisplayName("관리자 예약 페이지의 예약, 테마, 시간, 멤버 목록을 한 번에 읽을 수 있다.")
+    @Test
+    void findAdminReservationBootstrap() {
+        JsonPath response = RestAssured.given().log().all()
+                .cookies(makeCookies("admin@abc.com"))
+                .when().get("/admin/bootstrap/reservation")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath();
+
+        assertThat(response.getString("member.name")).isEqualTo("관리자");
+        assertThat(response.getInt("reservations.size()")).isEqualTo(COUNT_OF_RESERVATION);
+        assertThat(response.getInt("themes.size()")).isEqualTo(COUNT_OF_THEME);
+        assertThat(response.getInt("times.size()")).isEqualTo(COUNT_OF_TIME);
+        assertThat(response.getInt("members.size()")).isEqualTo(COUNT_OF_MEMBER);
+    }
+
+    private Cookies makeCookies(String email) {
+        LoginRequest request = new LoginRequest(email, "1234");
+
+        return RestAssured.given().log().all()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when().post("/login")
+                .then().log().all()
+                .statusCode(200)
+                .extract().detailedCookies();
+    }
+}
@@ -0,0 +1,126 @@
+package roomescape.bootstrap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import roomescape.auth.dto.LoggedInMember;
+import roomescape.auth.dto.LoginResponse;
+import roomescape.auth.exception.JwtAuthenticationException;
+import roomescape.auth.service.AuthService;
+import roomescape.bootstrap.dto.AdminReservationBootstrapResponse;
+import roomescape.bootstrap.dto.UserReservationBootstrapResponse;
+import roomescape.config.concurrent.ParallelQueryExecutor;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+import roomescape.member.dto.MemberResponse;
+import roomescape.member.service.MemberService;
+import roomescape.reservation.service.ReservationFindService;
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.theme.service.ThemeService;
+import roomescape.time.dto.TimeResponse;
+import roomescape.time.service.TimeService;
+
+@ExtendWith(MockitoExtension.class)
+class BootstrapServiceTest {
+    private static final LoggedInMember MEMBER = new LoggedInMember(1L, "브리", "bri@abc.com", false);
+    private static final LoggedInMember ADMIN = new LoggedInMember(2L, "관리자", "admin@abc.com", true);
+    private static final List<ThemeResponse> THEMES = List.of(
+            new ThemeResponse(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg"));
+    private static final List<TimeResponse> TIMES = List.of(new TimeResponse(1L, LocalTime.of(10, 0)));
+    private static final List<MemberResponse> MEMBERS = List.of(new MemberResponse(1L, "브리"));
+
+    @Mock
+    private AuthService authService;
+    @Mock
+    private ThemeService themeService;
+    @Mock
+    private TimeService timeService;
+    @Mock
+    private MemberService memberService;
+    @Mock
+    private ReservationFindService reservationFindService;
+    private BootstrapService bootstrapService;
+
+    @BeforeEach
+    void setUp() {
+        bootstrapService = new BootstrapService(authService, themeService, timeService, memberService,
+                reservationFindService, new ParallelQueryExecutor(new SimpleMeterRegistry(), 4, 16));
+    }
+
+    @DisplayName("로그인한 사용자의 예약 페이지 초기 데이터를 한 번에 조회한다.")
+    @Test
+    void findUserReservationBootstrapTest() {
+        given(authService.findLoggedInMember("token")).willReturn(MEMBER);
+        given(themeService.findThemes()).willReturn(THEMES);
+
+        UserReservationBootstrapResponse response = bootstrapService.findUserReservationBootstrap(
+                Optional.of("token")).join();
+
+        assertThat(response).isEqualTo(new UserReservationBootstrapResponse(new LoginResponse("브리"), THEMES));
+    }
+
+    @DisplayName("로그인하지 않은 사용자에게는 로그인 정보 없이 테마 목록을 준다.")
+    @Test
+    void findUserReservationBootstrapTest_whenNotLoggedIn() {
+        given(themeService.findThemes()).willReturn(THEMES);
+
+        UserReservationBootstrapResponse response = bootstrapService.findUserReservationBootstrap(
+                Optional.empty()).join();
+
+        assertThat(response).isEqualTo(new UserReservationBootstrapResponse(null, THEMES));
+        verify(authService, never()).findLoggedInMember(ArgumentMatchers.any());
+    }
+
+    @DisplayName("토큰이 유효하지 않으면 로그인 정보 없이 테마 목록을 준다.")
+    @Test
+    void findUserReservationBootstrapTest_whenTokenInvalid() {
+        given(authService.findLoggedInMember("token"))
+                .willThrow(new JwtAuthenticationException(ErrorCode.INVALID_TOKEN));
+        given(themeService.findThemes()).willReturn(THEMES);
+
+        UserReservationBootstrapResponse response = bootstrapService.findUserReservationBootstrap(
+                Optional.of("token")).join();
+
+        assertThat(response).isEqualTo(new UserReservationBootstrapResponse(null, THEMES));
+    }
+
+    @DisplayName("토큰의 회원이 삭제되었으면 로그인 정보 없이 테마 목록을 준다.")
+    @Test
+    void findUserReservationBootstrapTest_whenMemberDeleted() {
+        given(authService.findLoggedInMember("token"))
+                .willThrow(new BadArgumentRequestException(ErrorCode.MEMBER_NOT_FOUND));
+        given(themeService.findThemes()).willReturn(THEMES);
+
+        UserReservationBootstrapResponse response = bootstrapService.findUserReservationBootstrap(
+                Optional.of("token")).join();
+
+        assertThat(response).isEqualTo(new UserReservationBootstrapResponse(null, THEMES));
+    }
+
+    @DisplayName("관리자 예약 페이지 초기 데이터를 한 번에 조회한다.")
+    @Test
+    void findAdminReservationBootstrapTest() {
+        given(reservationFindService.findReservations()).willReturn(List.of());
+        given(themeService.findThemes()).willReturn(THEMES);
+        given(timeService.findTimes()).willReturn(TIMES);
+        given(memberService.findMembers()).willReturn(MEMBERS);
+
+        AdminReservationBootstrapResponse response = bootstrapService.findAdminReservationBootstrap(ADMIN).join();
+
+        assertThat(response).isEqualTo(new AdminReservationBootstrapResponse(
+                new LoginResponse("관리자"), List.of(), THEMES, TIMES, MEMBERS));
+    }
+}
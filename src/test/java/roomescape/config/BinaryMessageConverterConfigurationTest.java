@@ -0,0 +1,81 @@
+package roomescape.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.restassured.RestAssured;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/init-test.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class BinaryMessageConverterConfigurationTest {
+    private static final int COUNT_OF_RESERVATION = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @DisplayName("Accept 헤더로 CBOR 응답을 요청할 수 있다.")
+    @Test
+    void findReservationsAsCbor() throws IOException {
+        JsonNode reservations = readReservations("application/cbor", new CBORMapper());
+
+        assertThat(reservations.size()).isEqualTo(COUNT_OF_RESERVATION);
+        assertThat(reservations.get(0).get("theme").get("name").asText()).isNotBlank();
+    }
+
+    @DisplayName("Accept 헤더로 Smile 응답을 요청할 수 있다.")
+    @Test
+    void findReservationsAsSmile() throws IOException {
+        JsonNode reservations = readReservations("application/x-jackson-smile", new SmileMapper());
+
+        assertThat(reservations.size()).isEqualTo(COUNT_OF_RESERVATION);
+        assertThat(reservations.get(0).get("date").asText()).matches("\\d{4}-\\d{2}-\\d{2}");
+    }
+
+    @DisplayName("Accept 헤더가 없으면 JSON으로 응답한다.")
+    @Test
+    void findReservationsAsJsonByDefault() {
+        RestAssured.given().log().all()
+                .when().get("/reservations")
+                .then().log().all()
+                .statusCode(200)
+                .contentType("application/json");
+    }
+
+    @DisplayName("CBOR와 Smile 응답은 같은 내용의 JSON 응답보다 작다.")
+    @Test
+    void binaryPayloadIsSmallerThanJson() {
+        int jsonSize = fetchReservations("application/json").length;
+
+        assertThat(fetchReservations("application/cbor")).hasSizeLessThan(jsonSize);
+        assertThat(fetchReservations("application/x-jackson-smile")).hasSizeLessThan(jsonSize);
+    }
+
+    private JsonNode readReservations(String mediaType, ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readTree(fetchReservations(mediaType));
+    }
+
+    private byte[] fetchReservations(String mediaType) {
+        return RestAssured.given().log().all()
+                .accept(mediaType)
+                .when().get("/reservations")
+                .then().log().all()
+                .statusCode(200)
+                .contentType(mediaType)
+                .extract().asByteArray();
+    }
+}
@@ -0,0 +1,82 @@
+package roomescape.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import io.restassured.RestAssured;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class WebMvcConfigurationTest {
+    private static final Pattern FINGERPRINTED_SCRIPT = Pattern.compile("/js/user-reservation-[0-9a-f]{32}\\.js");
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @DisplayName("페이지는 내용 해시가 붙은 정적 자원 경로를 참조한다.")
+    @Test
+    void renderFingerprintedResourcePath() {
+        String page = RestAssured.given().log().all()
+                .when().get("/reservation")
+                .then().log().all()
+                .statusCode(200)
+                .extract().asString();
+
+        assertThat(FINGERPRINTED_SCRIPT.matcher(page).find()).isTrue();
+    }
+
+    @DisplayName("내용 해시가 붙은 정적 자원은 변경되지 않는 자원으로 캐시된다.")
+    @Test
+    void serveFingerprintedResourceWithImmutableCache() {
+        String page = RestAssured.given()
+                .when().get("/reservation")
+                .then().extract().asString();
+        Matcher matcher = FINGERPRINTED_SCRIPT.matcher(page);
+        assertThat(matcher.find()).isTrue();
+
+        RestAssured.given().log().all()
+                .when().get(matcher.group())
+                .then().log().all()
+                .statusCode(200)
+                .header("Cache-Control", containsString("max-age=31536000"))
+                .header("Cache-Control", containsString("immutable"));
+    }
+
+    @DisplayName("내용 해시가 없는 정적 자원은 매번 재검증하도록 캐시된다.")
+    @Test
+    void servePlainResourceWithNoCache() {
+        RestAssured.given().log().all()
+                .when().get("/js/user-reservation.js")
+                .then().log().all()
+                .statusCode(200)
+                .header("Cache-Control", "no-cache")
+                .header("Cache-Control", not(containsString("immutable")));
+    }
+
+    @DisplayName("페이지는 ETag로 재검증할 수 있다.")
+    @Test
+    void revalidatePageWithEtag() {
+        String etag = RestAssured.given()
+                .when().get("/login")
+                .then().statusCode(200)
+                .extract().header("ETag");
+
+        RestAssured.given().log().all()
+                .header("If-None-Match", etag)
+                .when().get("/login")
+                .then().log().all()
+                .statusCode(304);
+    }
+}
@@ -0,0 +1,116 @@
+package roomescape.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionHoldTimeDataSourceTest {
+    private static final String METRIC_NAME = "roomescape.db.connection.hold";
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    private MeterRegistry meterRegistry;
+    private ConnectionHoldTimeDataSource connectionHoldTimeDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        given(dataSource.getConnection()).willReturn(connection);
+        connectionHoldTimeDataSource = new ConnectionHoldTimeDataSource(
+                dataSource, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("커넥션을 반납하면 요청 경로 패턴별로 점유 시간을 기록한다.")
+    @Test
+    void getConnectionTest_withinRequest() throws SQLException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reservations/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/reservations/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        connectionHoldTimeDataSource.getConnection().close();
+
+        Timer timer = meterRegistry.find(METRIC_NAME).tag("uri", "GET /reservations/{id}").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        verify(connection).close();
+    }
+
+    @DisplayName("요청 밖에서 얻은 커넥션의 점유 시간은 none 경로로 기록한다.")
+    @Test
+    void getConnectionTest_outsideRequest() throws SQLException {
+        connectionHoldTimeDataSource.getConnection().close();
+
+        Timer timer = meterRegistry.find(METRIC_NAME).tag("uri", "none").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @DisplayName("다른 스레드로 넘긴 작업의 커넥션도 요청 경로 패턴으로 기록한다.")
+    @Test
+    void getConnectionTest_withPropagatedPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reservations/accounts");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/reservations/accounts");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Supplier<Void> task = RequestPatternHolder.propagate(() -> {
+            closeConnection();
+            return null;
+        });
+
+        CompletableFuture.supplyAsync(task).get(5, TimeUnit.SECONDS);
+
+        Timer timer = meterRegistry.find(METRIC_NAME).tag("uri", "GET /reservations/accounts").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @DisplayName("같은 커넥션을 여러 번 닫아도 점유 시간은 한 번만 기록한다.")
+    @Test
+    void getConnectionTest_whenClosedTwice() throws SQLException {
+        Connection holdTimeConnection = connectionHoldTimeDataSource.getConnection();
+
+        holdTimeConnection.close();
+        holdTimeConnection.close();
+
+        assertThat(meterRegistry.find(METRIC_NAME).timer().count()).isEqualTo(1);
+    }
+
+    private void closeConnection() {
+        try {
+            connectionHoldTimeDataSource.getConnection().close();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
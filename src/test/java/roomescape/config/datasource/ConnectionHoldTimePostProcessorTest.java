@@ -0,0 +1,77 @@
+package roomescape.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.http.Cookies;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.jdbc.Sql;
+import roomescape.auth.dto.LoginRequest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/init-test.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ConnectionHoldTimePostProcessorTest {
+    private static final String METRIC_NAME = "roomescape.db.connection.hold";
+    private static final long MAX_HOLD_MILLIS = 1000;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private Environment environment;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @DisplayName("OSIV를 끈 상태에서 페이지 렌더링과 API 요청의 커넥션 최대 점유 시간이 상한보다 짧다.")
+    @Test
+    void connectionHoldTimeTest() {
+        Cookies cookies = makeAdminCookie();
+
+        RestAssured.given().log().all()
+                .cookies(cookies)
+                .when().get("/admin")
+                .then().log().all()
+                .statusCode(200);
+        RestAssured.given().log().all()
+                .when().get("/reservations")
+                .then().log().all()
+                .statusCode(200);
+
+        assertThat(environment.getProperty("spring.jpa.open-in-view", Boolean.class)).isFalse();
+        assertMaxHoldTimeIsBounded("GET /admin");
+        assertMaxHoldTimeIsBounded("GET /reservations");
+    }
+
+    private void assertMaxHoldTimeIsBounded(String uri) {
+        Timer timer = meterRegistry.find(METRIC_NAME).tag("uri", uri).timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+        assertThat(timer.max(TimeUnit.MILLISECONDS)).isLessThan(MAX_HOLD_MILLIS);
+    }
+
+    private Cookies makeAdminCookie() {
+        LoginRequest request = new LoginRequest("admin@abc.com", "1234");
+
+        return RestAssured.given().log().all()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when().post("/login")
+                .then().log().all()
+                .statusCode(200)
+                .extract().detailedCookies();
+    }
+}
@@ -0,0 +1,31 @@
+package roomescape.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReadYourWritesWindowTest {
+
+    @DisplayName("쓰기 직후에는 읽기-쓰기 일관성 구간 안에 있다.")
+    @Test
+    void isWithinWindowTest() {
+        ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ofMinutes(1));
+
+        window.recordWrite(1L);
+
+        assertThat(window.isWithinWindow(1L)).isTrue();
+        assertThat(window.isWithinWindow(2L)).isFalse();
+    }
+
+    @DisplayName("구간이 지나면 더 이상 구간 안에 있지 않다.")
+    @Test
+    void isWithinWindowTest_whenExpired() {
+        ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ZERO);
+
+        window.recordWrite(1L);
+
+        assertThat(window.isWithinWindow(1L)).isFalse();
+    }
+}
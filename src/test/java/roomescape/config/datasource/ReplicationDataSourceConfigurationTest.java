@@ -0,0 +1,83 @@
+package roomescape.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@SpringBootTest
+@ActiveProfiles({"replica", "replica-test"})
+class ReplicationDataSourceConfigurationTest {
+    private static final String SELECT_MARKER_SQL = "SELECT name FROM data_source_marker";
+    private static final Long MEMBER_ID = 1L;
+
+    @Value("${roomescape.datasource.primary.jdbc-url}")
+    private String primaryUrl;
+    @Value("${roomescape.datasource.replica.jdbc-url}")
+    private String replicaUrl;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    @BeforeEach
+    void setUp() {
+        writeMarker(primaryUrl, "primary");
+        writeMarker(replicaUrl, "replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카 데이터베이스에서 읽는다.")
+    @Test
+    void routeReadOnlyTransactionToReplica() {
+        assertThat(readMarker(true)).isEqualTo("replica");
+    }
+
+    @DisplayName("쓰기 트랜잭션은 프라이머리 데이터베이스를 사용한다.")
+    @Test
+    void routeReadWriteTransactionToPrimary() {
+        assertThat(readMarker(false)).isEqualTo("primary");
+    }
+
+    @DisplayName("최근에 쓰기를 한 멤버의 읽기 전용 트랜잭션은 프라이머리 데이터베이스에서 읽는다.")
+    @Test
+    void routePinnedMemberToPrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        readYourWritesWindow.recordWrite(MEMBER_ID);
+        readYourWritesWindow.pinToPrimaryIfWithinWindow(MEMBER_ID);
+
+        assertThat(readMarker(true)).isEqualTo("primary");
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(SELECT_MARKER_SQL, String.class));
+    }
+
+    private void writeMarker(String url, String name) {
+        JdbcTemplate markerTemplate = new JdbcTemplate(new DriverManagerDataSource(url));
+        markerTemplate.execute("CREATE TABLE IF NOT EXISTS data_source_marker (name VARCHAR(20) NOT NULL)");
+        markerTemplate.update("DELETE FROM data_source_marker");
+        markerTemplate.update("INSERT INTO data_source_marker (name) VALUES (?)", name);
+    }
+}
@@ -0,0 +1,48 @@
+package roomescape.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReplicationRoutingDataSourceTest {
+    private final ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+    private final ReadYourWritesWindow readYourWritesWindow = new ReadYourWritesWindow(Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 보낸다.")
+    @Test
+    void determineCurrentLookupKeyTest_whenReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.REPLICA);
+    }
+
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 보낸다.")
+    @Test
+    void determineCurrentLookupKeyTest_whenNotReadOnly() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+
+    @DisplayName("최근에 쓰기를 한 멤버의 요청은 읽기 전용이라도 프라이머리로 보낸다.")
+    @Test
+    void determineCurrentLookupKeyTest_whenMemberRecentlyWrote() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        readYourWritesWindow.recordWrite(1L);
+        readYourWritesWindow.pinToPrimaryIfWithinWindow(1L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+}
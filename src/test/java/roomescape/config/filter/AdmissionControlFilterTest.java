@@ -0,0 +1,94 @@
+package roomescape.config.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlFilterTest {
+    private static final int MAX_PENDING_CONNECTIONS = 20;
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private HikariDataSource hikariDataSource;
+    @Mock
+    private HikariPoolMXBean pool;
+    @Mock
+    private HikariDataSource replicaDataSource;
+    @Mock
+    private HikariPoolMXBean replicaPool;
+    private AdmissionControlFilter admissionControlFilter;
+
+    @BeforeEach
+    void setUp() throws SQLException, JsonProcessingException {
+        given(dataSource.unwrap(HikariDataSource.class)).willReturn(hikariDataSource);
+        given(hikariDataSource.getHikariPoolMXBean()).willReturn(pool);
+        admissionControlFilter = new AdmissionControlFilter(
+                List.of(dataSource), new ObjectMapper(), new SimpleMeterRegistry(), MAX_PENDING_CONNECTIONS, 1);
+    }
+
+    @DisplayName("커넥션 대기자가 임계치보다 적으면 요청을 처리한다.")
+    @Test
+    void doFilterTest_whenPoolIsAvailable() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/reservations");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(pool.getThreadsAwaitingConnection()).willReturn(MAX_PENDING_CONNECTIONS - 1);
+
+        admissionControlFilter.doFilter(request, response, filterChain);
+
+        assertThat(filterChain.getRequest()).isEqualTo(request);
+    }
+
+    @DisplayName("커넥션 대기자가 임계치 이상이면 503과 Retry-After 헤더를 반환한다.")
+    @Test
+    void doFilterTest_whenPoolIsSaturated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/reservations");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(pool.getThreadsAwaitingConnection()).willReturn(MAX_PENDING_CONNECTIONS);
+
+        admissionControlFilter.doFilter(request, response, filterChain);
+
+        assertThat(filterChain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @DisplayName("레플리카 커넥션 대기자가 임계치 이상이어도 503을 반환한다.")
+    @Test
+    void doFilterTest_whenReplicaPoolIsSaturated() throws Exception {
+        given(replicaDataSource.unwrap(HikariDataSource.class)).willReturn(replicaDataSource);
+        given(replicaDataSource.getHikariPoolMXBean()).willReturn(replicaPool);
+        given(pool.getThreadsAwaitingConnection()).willReturn(0);
+        given(replicaPool.getThreadsAwaitingConnection()).willReturn(MAX_PENDING_CONNECTIONS);
+        AdmissionControlFilter replicatedFilter = new AdmissionControlFilter(List.of(dataSource, replicaDataSource),
+                new ObjectMapper(), new SimpleMeterRegistry(), MAX_PENDING_CONNECTIONS, 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/themes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        replicatedFilter.doFilter(request, response, filterChain);
+
+        assertThat(filterChain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+}
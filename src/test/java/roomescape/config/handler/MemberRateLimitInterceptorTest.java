@@ -0,0 +1,97 @@
+package roomescape.config.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import roomescape.auth.controller.TokenCookieManager;
+import roomescape.auth.service.TokenProvider;
+import roomescape.exception.TooManyRequestsException;
+import roomescape.idempotency.IdempotencyStore;
+
+@ExtendWith(MockitoExtension.class)
+class MemberRateLimitInterceptorTest {
+    @Mock
+    private TokenCookieManager tokenCookieManager;
+    @Mock
+    private TokenProvider tokenProvider;
+    private IdempotencyStore idempotencyStore;
+    private MemberRateLimitInterceptor memberRateLimitInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(new SimpleMeterRegistry(), Duration.ofMinutes(1), Duration.ofSeconds(1));
+        memberRateLimitInterceptor = new MemberRateLimitInterceptor(tokenCookieManager, tokenProvider,
+                idempotencyStore, new SimpleMeterRegistry(), 1, Duration.ofMinutes(1));
+    }
+
+    @DisplayName("한도 안의 예약 요청은 통과한다.")
+    @Test
+    void preHandleTest() {
+        given(tokenCookieManager.getToken(any())).willReturn("token");
+        given(tokenProvider.findMemberId("token")).willReturn(1L);
+
+        boolean actual = memberRateLimitInterceptor.preHandle(
+                new MockHttpServletRequest("POST", "/reservations"), new MockHttpServletResponse(), null);
+
+        assertThat(actual).isTrue();
+    }
+
+    @DisplayName("한도를 넘은 예약 요청은 예외를 던진다.")
+    @Test
+    void preHandleTest_whenLimitExceeded() {
+        given(tokenCookieManager.getToken(any())).willReturn("token");
+        given(tokenProvider.findMemberId("token")).willReturn(1L);
+        memberRateLimitInterceptor.preHandle(
+                new MockHttpServletRequest("POST", "/reservations"), new MockHttpServletResponse(), null);
+
+        assertThatThrownBy(() -> memberRateLimitInterceptor.preHandle(
+                new MockHttpServletRequest("POST", "/waitings"), new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("예약 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @DisplayName("이미 처리한 멱등성 키의 재요청은 경로 표기와 관계없이 한도를 소비하지 않는다.")
+    @Test
+    void preHandleTest_whenIdempotentReplay() {
+        given(tokenCookieManager.getToken(any())).willReturn("token");
+        given(tokenProvider.findMemberId("token")).willReturn(1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/reservations/");
+        request.setContextPath("/api");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/reservations");
+        request.addHeader("Idempotency-Key", "key");
+        memberRateLimitInterceptor.preHandle(request, new MockHttpServletResponse(), null);
+        idempotencyStore.execute("POST /reservations", "key", 1L, "request", () -> ResponseEntity.ok("created"));
+
+        boolean replayed = memberRateLimitInterceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        assertThat(replayed).isTrue();
+        assertThatThrownBy(() -> memberRateLimitInterceptor.preHandle(
+                new MockHttpServletRequest("POST", "/waitings"), new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @DisplayName("조회 요청은 제한하지 않는다.")
+    @Test
+    void preHandleTest_whenRequestIsNotPost() {
+        boolean actual = memberRateLimitInterceptor.preHandle(
+                new MockHttpServletRequest("GET", "/reservations"), new MockHttpServletResponse(), null);
+
+        assertThat(actual).isTrue();
+        verifyNoInteractions(tokenProvider);
+    }
+}
@@ -0,0 +1,116 @@
+package roomescape.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.exception.ErrorCode;
+
+class IdempotencyStoreTest {
+    private static final String SCOPE = "POST /reservations";
+
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore(
+            new SimpleMeterRegistry(), Duration.ofMinutes(1), Duration.ofMillis(100));
+    private final AtomicInteger executionCount = new AtomicInteger();
+
+    @DisplayName("같은 키로 같은 요청을 다시 보내면 처음 응답을 돌려주고 다시 실행하지 않는다.")
+    @Test
+    void executeTest_whenRetried() {
+        ResponseEntity<Integer> first = idempotencyStore.execute(SCOPE, "key", 1L, "request", this::countExecution);
+        ResponseEntity<Integer> retried = idempotencyStore.execute(SCOPE, "key", 1L, "request", this::countExecution);
+
+        assertThat(retried).isSameAs(first);
+        assertThat(executionCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("멤버가 다르면 같은 키라도 각각 실행한다.")
+    @Test
+    void executeTest_whenOtherMember() {
+        idempotencyStore.execute(SCOPE, "key", 1L, "request", this::countExecution);
+        idempotencyStore.execute(SCOPE, "key", 2L, "request", this::countExecution);
+
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("키가 없으면 매번 실행한다.")
+    @Test
+    void executeTest_withoutKey() {
+        idempotencyStore.execute(SCOPE, null, 1L, "request", this::countExecution);
+        idempotencyStore.execute(SCOPE, null, 1L, "request", this::countExecution);
+
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("같은 키로 다른 요청을 보내면 예외를 던진다.")
+    @Test
+    void executeTest_whenKeyReused() {
+        idempotencyStore.execute(SCOPE, "key", 1L, "request", this::countExecution);
+
+        assertThatThrownBy(() -> idempotencyStore.execute(SCOPE, "key", 1L, "other", this::countExecution))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 실행할 수 있다.")
+    @Test
+    void executeTest_whenFailed() {
+        assertThatThrownBy(() -> idempotencyStore.execute(SCOPE, "key", 1L, "request", () -> {
+            throw new BadArgumentRequestException(ErrorCode.SLOT_ALREADY_BOOKED);
+        })).isInstanceOf(BadArgumentRequestException.class);
+
+        idempotencyStore.execute(SCOPE, "key", 1L, "request", this::countExecution);
+
+        assertThat(executionCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("처음 요청이 끝나지 않으면 정해진 시간만 기다린 뒤 예외를 던진다.")
+    @Test
+    void executeTest_whenFirstRequestInProgress() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<Integer>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyStore.execute(SCOPE, "key", 1L, "request", () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return countExecution();
+                }));
+        started.await();
+
+        assertThatThrownBy(() -> idempotencyStore.execute(SCOPE, "key", 1L, "request", this::countExecution))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage());
+        release.countDown();
+        assertThat(first.join().getBody()).isEqualTo(1);
+    }
+
+    @DisplayName("저장된 응답이 있는 키만 재요청으로 판단한다.")
+    @Test
+    void isReplayTest() {
+        idempotencyStore.execute(SCOPE, "key", 1L, "request", this::countExecution);
+
+        assertThat(idempotencyStore.isReplay(SCOPE, "key", 1L)).isTrue();
+        assertThat(idempotencyStore.isReplay(SCOPE, "key", 2L)).isFalse();
+        assertThat(idempotencyStore.isReplay(SCOPE, "other", 1L)).isFalse();
+        assertThat(idempotencyStore.isReplay(SCOPE, null, 1L)).isFalse();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ResponseEntity<Integer> countExecution() {
+        return ResponseEntity.ok(executionCount.incrementAndGet());
+    }
+}
@@ -9,7 +9,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import roomescape.member.domain.Email;
 import roomescape.member.domain.Member;
-import roomescape.member.domain.Password;
 import roomescape.test.RepositoryTest;
 
 class MemberRepositoryTest extends RepositoryTest {
@@ -34,12 +33,11 @@ class MemberRepositoryTest extends RepositoryTest {
         assertThat(actual.get().getId()).isEqualTo(1L);
     }
 
-    @DisplayName("email과 password로 멤버를 조회할 수 있다.")
+    @DisplayName("email로 멤버를 조회할 수 있다.")
     @Test
-    void findByEmailAndPasswordTest() {
+    void findByEmailTest() {
         Email email = new Email("admin@abc.com");
-        Password password = new Password("1234");
-        Optional<Member> actual = memberRepository.findByEmailAndPassword(email, password);
+        Optional<Member> actual = memberRepository.findByEmail(email);
 
         assertThat(actual.get().getId()).isEqualTo(1L);
     }
@@ -0,0 +1,158 @@
+package roomescape.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import roomescape.member.domain.Member;
+import roomescape.outbox.domain.OutboxEvent;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.repository.OutboxEventRepository;
+import roomescape.reservation.domain.Reservation;
+import roomescape.theme.domain.Theme;
+import roomescape.time.domain.ReservationTime;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventDispatcherTest {
+    private static final Reservation RESERVATION = new Reservation(1L, new Member(1L, "브라운", "brown@abc.com"),
+            LocalDate.now().plusDays(7), new ReservationTime(1L, LocalTime.of(19, 0)),
+            new Theme(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg"));
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private OutboxEventListener failingListener;
+    @Mock
+    private OutboxEventListener listener;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxEventDispatcher outboxEventDispatcher;
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        event = createEvent(1L);
+        meterRegistry = new SimpleMeterRegistry();
+        outboxEventDispatcher = new OutboxEventDispatcher(outboxEventRepository,
+                List.of(failingListener, listener), transactionManager, meterRegistry, 100, MAX_ATTEMPTS);
+    }
+
+    @DisplayName("쌓인 이벤트를 리스너에 전달한 후 삭제한다.")
+    @Test
+    void dispatchTest() {
+        given(outboxEventRepository.findAllByParkedAtIsNullOrderByIdAsc(any(Pageable.class))).willReturn(List.of(event));
+
+        outboxEventDispatcher.dispatch();
+
+        verify(listener).handle(List.of(event));
+        verify(outboxEventRepository).deleteAll(List.of(event));
+        assertThat(meterRegistry.timer("roomescape.outbox.lag").count()).isEqualTo(1);
+    }
+
+    @DisplayName("리스너 처리에 실패하면 이벤트를 삭제하지 않고 다른 리스너에는 전달한다.")
+    @Test
+    void dispatchTest_whenListenerFails() {
+        given(outboxEventRepository.findAllByParkedAtIsNullOrderByIdAsc(any(Pageable.class))).willReturn(List.of(event));
+        willThrow(new IllegalStateException()).given(failingListener).handle(List.of(event));
+
+        outboxEventDispatcher.dispatch();
+
+        verify(listener).handle(List.of(event));
+        verify(outboxEventRepository, never()).deleteAll(any());
+        assertThat(meterRegistry.counter("roomescape.outbox.failed").count()).isEqualTo(1);
+    }
+
+    @DisplayName("실패한 리스너에만 이벤트를 다시 전달하고, 모두 전달되면 삭제한다.")
+    @Test
+    void dispatchTest_whenRetried() {
+        given(outboxEventRepository.findAllByParkedAtIsNullOrderByIdAsc(any(Pageable.class))).willReturn(List.of(event));
+        willThrow(new IllegalStateException()).willDoNothing().given(failingListener).handle(List.of(event));
+
+        outboxEventDispatcher.dispatch();
+        outboxEventDispatcher.dispatch();
+
+        verify(failingListener, times(2)).handle(List.of(event));
+        verify(listener, times(1)).handle(List.of(event));
+        verify(outboxEventRepository).deleteAll(List.of(event));
+    }
+
+    @DisplayName("더 큰 id의 이벤트를 전달한 뒤 늦게 커밋된 작은 id의 이벤트도 전달한다.")
+    @Test
+    void dispatchTest_whenLowerIdCommittedLate() {
+        OutboxEvent lateEvent = createEvent(8L);
+        OutboxEvent laterEvent = createEvent(10L);
+        given(outboxEventRepository.findAllByParkedAtIsNullOrderByIdAsc(any(Pageable.class)))
+                .willReturn(List.of(laterEvent))
+                .willReturn(List.of(lateEvent));
+
+        outboxEventDispatcher.dispatch();
+        outboxEventDispatcher.dispatch();
+
+        verify(listener).handle(List.of(lateEvent));
+        verify(failingListener).handle(List.of(lateEvent));
+        verify(outboxEventRepository).deleteAll(List.of(laterEvent));
+        verify(outboxEventRepository).deleteAll(List.of(lateEvent));
+    }
+
+    @DisplayName("계속 실패하는 이벤트는 재시도 횟수를 넘으면 보류하고 나머지 이벤트는 전달한다.")
+    @Test
+    void dispatchTest_whenPoisonEvent() {
+        OutboxEvent poisonEvent = createEvent(2L);
+        given(outboxEventRepository.findAllByParkedAtIsNullOrderByIdAsc(any(Pageable.class)))
+                .willReturn(List.of(poisonEvent, event))
+                .willReturn(List.of(poisonEvent));
+        willAnswer(invocation -> {
+            List<OutboxEvent> events = invocation.getArgument(0);
+            if (events.contains(poisonEvent)) {
+                throw new IllegalStateException();
+            }
+            return null;
+        }).given(failingListener).handle(any());
+
+        outboxEventDispatcher.dispatch();
+        outboxEventDispatcher.dispatch();
+
+        verify(failingListener).handle(List.of(event));
+        verify(outboxEventRepository).deleteAll(List.of(event));
+        verify(outboxEventRepository, never()).deleteAll(List.of(poisonEvent));
+        assertThat(poisonEvent.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(poisonEvent.getParkedAt()).isNotNull();
+        assertThat(meterRegistry.counter("roomescape.outbox.parked").count()).isEqualTo(1);
+    }
+
+    @DisplayName("쌓인 이벤트가 없으면 리스너를 호출하지 않는다.")
+    @Test
+    void dispatchTest_whenEmpty() {
+        given(outboxEventRepository.findAllByParkedAtIsNullOrderByIdAsc(any(Pageable.class))).willReturn(List.of());
+
+        outboxEventDispatcher.dispatch();
+
+        verify(listener, never()).handle(any());
+    }
+
+    private OutboxEvent createEvent(Long id) {
+        OutboxEvent outboxEvent = new OutboxEvent(OutboxEventType.RESERVATION_CREATED, RESERVATION, 1L);
+        ReflectionTestUtils.setField(outboxEvent, "id", id);
+        return outboxEvent;
+    }
+}
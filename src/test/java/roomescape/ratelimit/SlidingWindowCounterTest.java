@@ -0,0 +1,42 @@
+package roomescape.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+    private static final long WINDOW = 10_000_000_000L;
+    private static final long NOW = 1_000_000_000L;
+
+    @DisplayName("윈도우 안에서 한도만큼 요청을 허용한다.")
+    @Test
+    void tryAcquireTest() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, NOW);
+
+        assertThat(counter.tryAcquire(2, NOW)).isZero();
+        assertThat(counter.tryAcquire(2, NOW + 1)).isZero();
+        assertThat(counter.tryAcquire(2, NOW + 2)).isPositive();
+    }
+
+    @DisplayName("이전 윈도우의 요청은 지난 시간만큼 비중이 줄어든다.")
+    @Test
+    void tryAcquireTest_whenWindowSlides() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, NOW);
+        counter.tryAcquire(2, NOW);
+        counter.tryAcquire(2, NOW);
+
+        assertThat(counter.tryAcquire(2, NOW + WINDOW + WINDOW / 10)).isPositive();
+        assertThat(counter.tryAcquire(2, NOW + WINDOW + WINDOW * 6 / 10)).isZero();
+    }
+
+    @DisplayName("두 윈도우 동안 요청이 없으면 유휴 상태가 된다.")
+    @Test
+    void isIdleTest() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, NOW);
+        counter.tryAcquire(2, NOW);
+
+        assertThat(counter.isIdle(NOW + WINDOW)).isFalse();
+        assertThat(counter.isIdle(NOW + WINDOW * 2)).isTrue();
+    }
+}
@@ -0,0 +1,41 @@
+package roomescape.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+    private static final long NOW = 1_000_000_000L;
+    private static final Duration REFILL_PERIOD = Duration.ofSeconds(1);
+
+    @DisplayName("용량만큼은 연속으로 소비할 수 있다.")
+    @Test
+    void tryConsumeTest() {
+        TokenBucket tokenBucket = new TokenBucket(3, REFILL_PERIOD);
+
+        assertThat(tokenBucket.tryConsume(NOW)).isZero();
+        assertThat(tokenBucket.tryConsume(NOW)).isZero();
+        assertThat(tokenBucket.tryConsume(NOW)).isZero();
+    }
+
+    @DisplayName("용량을 모두 소비하면 다음 토큰까지 남은 시간을 반환한다.")
+    @Test
+    void tryConsumeTest_whenBucketIsEmpty() {
+        TokenBucket tokenBucket = new TokenBucket(1, REFILL_PERIOD);
+        tokenBucket.tryConsume(NOW);
+
+        assertThat(tokenBucket.tryConsume(NOW)).isEqualTo(REFILL_PERIOD.toNanos());
+    }
+
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다.")
+    @Test
+    void tryConsumeTest_whenRefilled() {
+        TokenBucket tokenBucket = new TokenBucket(1, REFILL_PERIOD);
+        tokenBucket.tryConsume(NOW);
+
+        assertThat(tokenBucket.tryConsume(NOW + REFILL_PERIOD.toNanos())).isZero();
+        assertThat(tokenBucket.isFull(NOW + REFILL_PERIOD.toNanos() * 2)).isTrue();
+    }
+}
@@ -0,0 +1,52 @@
+package roomescape.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketsTest {
+    private static final long NOW = 1_000_000_000L;
+    private static final Duration REFILL_PERIOD = Duration.ofSeconds(1);
+
+    @DisplayName("키마다 별도의 버킷을 사용한다.")
+    @Test
+    void tryConsumeTest() {
+        TokenBuckets tokenBuckets = new TokenBuckets(1, REFILL_PERIOD, 10);
+        tokenBuckets.tryConsume("a", NOW);
+
+        assertThat(tokenBuckets.tryConsume("a", NOW)).isEqualTo(REFILL_PERIOD.toNanos());
+        assertThat(tokenBuckets.tryConsume("b", NOW)).isZero();
+    }
+
+    @DisplayName("키 수가 최대치에 도달하면 새로운 키는 거부한다.")
+    @Test
+    void tryConsumeTest_whenMaxKeysReached() {
+        TokenBuckets tokenBuckets = new TokenBuckets(2, REFILL_PERIOD, 2);
+        tokenBuckets.tryConsume("a", NOW);
+        tokenBuckets.tryConsume("b", NOW);
+
+        assertThat(tokenBuckets.tryConsume("c", NOW)).isEqualTo(REFILL_PERIOD.toNanos());
+        assertThat(tokenBuckets.size()).isEqualTo(2);
+    }
+
+    @DisplayName("키 수가 최대치에 도달해도 기존 키는 계속 소비할 수 있다.")
+    @Test
+    void tryConsumeTest_whenMaxKeysReachedForExistingKey() {
+        TokenBuckets tokenBuckets = new TokenBuckets(2, REFILL_PERIOD, 1);
+        tokenBuckets.tryConsume("a", NOW);
+
+        assertThat(tokenBuckets.tryConsume("a", NOW)).isZero();
+    }
+
+    @DisplayName("키 수가 최대치에 도달하면 가득 찬 버킷을 비우고 새로운 키를 받는다.")
+    @Test
+    void tryConsumeTest_whenFullBucketsEvicted() {
+        TokenBuckets tokenBuckets = new TokenBuckets(2, REFILL_PERIOD, 1);
+        tokenBuckets.tryConsume("a", NOW);
+
+        assertThat(tokenBuckets.tryConsume("b", NOW + REFILL_PERIOD.toNanos())).isZero();
+        assertThat(tokenBuckets.size()).isEqualTo(1);
+    }
+}
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.http.Cookies;
+import io.restassured.path.json.JsonPath;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,7 +23,7 @@ import roomescape.reservation.dto.ReservationCreateRequest;
 @Sql(scripts = "/init-test.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 class ReservationControllerTest {
     private static final int COUNT_OF_RESERVATION = 5;
-    private static final int BRI_COUNT_OF_RESERVATION = 1;
+    private static final String BROWN_EMAIL = "brown@abc.com";
 
     @LocalServerPort
     private int port;
@@ -45,19 +47,64 @@ class ReservationControllerTest {
         assertThat(size).isEqualTo(COUNT_OF_RESERVATION);
     }
 
-    @DisplayName("로그인한 사용자의 예약 목록을 읽을 수 있다.")
+    @DisplayName("예약 목록을 참조 데이터가 중복되지 않는 압축 형식으로 읽을 수 있다.")
+    @Test
+    void findCompactReservations() {
+        int expectedThemeCount = jdbcTemplate.queryForObject(
+                "SELECT count(DISTINCT theme_id) FROM reservation", Integer.class);
+
+        JsonPath response = RestAssured.given().log().all()
+                .param("format", "compact")
+                .when().get("/reservations")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath();
+
+        assertThat(response.getInt("reservations.size()")).isEqualTo(COUNT_OF_RESERVATION);
+        assertThat(response.getMap("themes")).hasSize(expectedThemeCount);
+    }
+
+    @DisplayName("로그인한 사용자의 다가오는 예약 목록을 읽을 수 있다.")
     @Test
     void findMyReservations() {
-        Cookies userCookies = makeUserCookie();
+        Cookies userCookies = makeUserCookie(BROWN_EMAIL);
 
-        int size = RestAssured.given().log().all()
+        JsonPath response = RestAssured.given().log().all()
                 .cookies(userCookies)
                 .when().get("/reservations/accounts")
                 .then().log().all()
                 .statusCode(200).extract()
-                .jsonPath().getInt("size()");
+                .jsonPath();
 
-        assertThat(size).isEqualTo(BRI_COUNT_OF_RESERVATION);
+        assertThat(response.getList("id", Long.class)).containsExactly(5L);
+        assertThat(response.getString("[0].date")).isEqualTo("2050-05-05");
+        assertThat(response.getString("[0].startAt")).isEqualTo("19:00");
+        assertThat(response.getString("[0].status")).isEqualTo("예약");
+    }
+
+    @DisplayName("로그인한 사용자의 지난 예약 목록을 페이지 단위로 읽을 수 있다.")
+    @Test
+    void findMyReservationHistory() {
+        Cookies userCookies = makeUserCookie(BROWN_EMAIL);
+
+        List<Long> firstPage = findMyReservationHistoryIds(userCookies, 0);
+        List<Long> secondPage = findMyReservationHistoryIds(userCookies, 1);
+
+        assertThat(firstPage).containsExactly(1L);
+        assertThat(secondPage).containsExactly(4L);
+    }
+
+    @DisplayName("지난 예약 목록의 페이지 크기가 범위를 벗어나면 400을 반환한다.")
+    @Test
+    void findMyReservationHistory_whenSizeOutOfRange() {
+        Cookies userCookies = makeUserCookie();
+
+        RestAssured.given().log().all()
+                .cookies(userCookies)
+                .queryParam("size", 101)
+                .when().get("/reservations/accounts/history")
+                .then().log().all()
+                .statusCode(400);
     }
 
     @DisplayName("예약을 DB에 추가할 수 있다.")
@@ -78,8 +125,72 @@ class ReservationControllerTest {
                 .header("Location", "/reservations/" + expectedId);
     }
 
+    @DisplayName("같은 멱등성 키로 다시 요청하면 예약을 다시 만들지 않고 처음 응답을 돌려준다.")
+    @Test
+    void createReservation_withIdempotencyKey() {
+        ReservationCreateRequest params = new ReservationCreateRequest(
+                null, LocalDate.of(2040, 8, 7), 1L, 1L);
+        long expectedId = COUNT_OF_RESERVATION + 1;
+        Cookies userCookies = makeUserCookie();
+
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().log().all()
+                    .cookies(userCookies)
+                    .header("Idempotency-Key", "create-reservation-key")
+                    .contentType(ContentType.JSON)
+                    .body(params)
+                    .when().post("/reservations")
+                    .then().log().all()
+                    .statusCode(201)
+                    .header("Location", "/reservations/" + expectedId);
+        }
+
+        int count = jdbcTemplate.queryForObject("SELECT count(1) FROM reservation", Integer.class);
+        assertThat(count).isEqualTo(COUNT_OF_RESERVATION + 1);
+    }
+
+    @DisplayName("선점한 예약 시간을 확정해 예약을 추가할 수 있다.")
+    @Test
+    void holdAndConfirmReservation() {
+        ReservationCreateRequest params = new ReservationCreateRequest(
+                null, LocalDate.of(2040, 8, 6), 1L, 1L);
+        long expectedId = COUNT_OF_RESERVATION + 1;
+        Cookies userCookies = makeUserCookie();
+
+        String holdId = RestAssured.given().log().all()
+                .cookies(userCookies)
+                .contentType(ContentType.JSON)
+                .body(params)
+                .when().post("/reservations/holds")
+                .then().log().all()
+                .statusCode(201).extract()
+                .jsonPath().getString("id");
+
+        RestAssured.given().log().all()
+                .cookies(userCookies)
+                .when().post("/reservations/holds/" + holdId + "/confirm")
+                .then().log().all()
+                .statusCode(201)
+                .header("Location", "/reservations/" + expectedId);
+    }
+
+    private List<Long> findMyReservationHistoryIds(Cookies userCookies, int page) {
+        return RestAssured.given().log().all()
+                .cookies(userCookies)
+                .queryParam("page", page)
+                .queryParam("size", 1)
+                .when().get("/reservations/accounts/history")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath().getList("id", Long.class);
+    }
+
     private Cookies makeUserCookie() {
-        LoginRequest request = new LoginRequest("bri@abc.com", "1234");
+        return makeUserCookie("bri@abc.com");
+    }
+
+    private Cookies makeUserCookie(String email) {
+        LoginRequest request = new LoginRequest(email, "1234");
 
         return RestAssured.given().log().all()
                 .contentType(ContentType.JSON)
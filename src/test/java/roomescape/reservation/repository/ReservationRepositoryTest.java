@@ -8,6 +8,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import roomescape.reservation.domain.Reservation;
 import roomescape.test.RepositoryTest;
 
@@ -32,14 +33,27 @@ class ReservationRepositoryTest extends RepositoryTest {
         assertThat(actual.get().getId()).isEqualTo(1L);
     }
 
-    @DisplayName("멤버의 id로 예약을 조회할 수 있다.")
+    @DisplayName("멤버의 id로 오늘 이후의 예약을 날짜와 시간 순서로 조회할 수 있다.")
     @Test
-    void findByMemberIdTest() {
+    void findByMemberIdAndDateGreaterThanEqualOrderByDateAscTimeStartAtAscIdAscTest() {
         Long memberId = 2L;
 
-        List<Reservation> actual = reservationRepository.findByMemberId(memberId);
+        List<Reservation> actual = reservationRepository
+                .findByMemberIdAndDateGreaterThanEqualOrderByDateAscTimeStartAtAscIdAsc(memberId, LocalDate.now());
 
-        assertThat(actual).hasSize(3);
+        assertThat(actual).extracting(Reservation::getId).containsExactly(5L);
+    }
+
+    @DisplayName("멤버의 id로 지난 예약을 최근 순서로 페이지 단위 조회할 수 있다.")
+    @Test
+    void findByMemberIdAndDateLessThanOrderByDateDescTimeStartAtDescIdDescTest() {
+        Long memberId = 2L;
+
+        List<Reservation> actual = reservationRepository
+                .findByMemberIdAndDateLessThanOrderByDateDescTimeStartAtDescIdDesc(
+                        memberId, LocalDate.now(), PageRequest.of(0, 1));
+
+        assertThat(actual).extracting(Reservation::getId).containsExactly(1L);
     }
 
     @DisplayName("날짜, 시간, 테마를 통해 예약을 조회할 수 있다.")
@@ -3,7 +3,9 @@ package roomescape.reservation.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -18,6 +20,8 @@ import roomescape.exception.BadArgumentRequestException;
 import roomescape.member.domain.Member;
 import roomescape.member.dto.MemberResponse;
 import roomescape.member.repository.MemberRepository;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.service.OutboxEventRecorder;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.dto.ReservationCreateRequest;
 import roomescape.reservation.dto.ReservationResponse;
@@ -39,6 +43,8 @@ class ReservationCreateServiceTest {
     private TimeRepository timeRepository;
     @Mock
     private ThemeRepository themeRepository;
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
     @InjectMocks
     private ReservationCreateService reservationCreateService;
 
@@ -66,6 +72,7 @@ class ReservationCreateServiceTest {
         ReservationResponse actual = reservationCreateService.createReservation(request);
 
         assertThat(actual).isEqualTo(expected);
+        verify(outboxEventRecorder).record(eq(OutboxEventType.RESERVATION_CREATED), any(Reservation.class), eq(1L));
     }
 
     @DisplayName("예약 생성 시, memberId에 해당하는 멤버가 없다면 예외를 던진다.")
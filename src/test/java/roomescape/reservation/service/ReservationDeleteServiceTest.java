@@ -0,0 +1,73 @@
+package roomescape.reservation.service;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import roomescape.member.domain.Member;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.service.OutboxEventRecorder;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.repository.ReservationRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.time.domain.ReservationTime;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.repository.WaitingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationDeleteServiceTest {
+    private static final Member RESERVATION_OWNER = new Member(1L, "브라운", "brown@abc.com");
+    private static final Member WAITING_OWNER = new Member(2L, "브리", "bri@abc.com");
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private WaitingRepository waitingRepository;
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
+    private ReservationDeleteService reservationDeleteService;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservationDeleteService = new ReservationDeleteService(
+                reservationRepository, waitingRepository, outboxEventRecorder, new SimpleMeterRegistry());
+        reservation = new Reservation(1L, RESERVATION_OWNER, LocalDate.now().plusDays(7),
+                new ReservationTime(1L, LocalTime.of(19, 0)),
+                new Theme(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg"));
+    }
+
+    @DisplayName("예약 대기가 없으면 예약을 삭제하고 예약 삭제 이벤트를 기록한다.")
+    @Test
+    void deleteReservationTest() {
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(reservation));
+        given(waitingRepository.findTopByReservationIdOrderByCreatedAtAsc(1L)).willReturn(Optional.empty());
+
+        reservationDeleteService.deleteReservation(1L);
+
+        verify(reservationRepository).deleteById(1L);
+        verify(outboxEventRecorder).record(OutboxEventType.RESERVATION_DELETED, reservation, RESERVATION_OWNER.getId());
+    }
+
+    @DisplayName("예약 대기가 있으면 예약 대기를 예약으로 승격하고 승격 이벤트를 기록한다.")
+    @Test
+    void deleteReservationTest_whenWaitingExists() {
+        Waiting waiting = new Waiting(1L, reservation, WAITING_OWNER, LocalDateTime.now());
+        given(reservationRepository.findById(1L)).willReturn(Optional.of(reservation));
+        given(waitingRepository.findTopByReservationIdOrderByCreatedAtAsc(1L)).willReturn(Optional.of(waiting));
+
+        reservationDeleteService.deleteReservation(1L);
+
+        verify(outboxEventRecorder).record(OutboxEventType.RESERVATION_PROMOTED, reservation, WAITING_OWNER.getId());
+    }
+}
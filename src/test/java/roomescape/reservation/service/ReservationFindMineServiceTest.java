@@ -0,0 +1,97 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import roomescape.config.concurrent.ParallelQueryExecutor;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.member.domain.Member;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.dto.MyReservationResponse;
+import roomescape.reservation.repository.ReservationRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.time.domain.ReservationTime;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.repository.WaitingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationFindMineServiceTest {
+    private static final Member MEMBER = new Member(1L, "브라운", "brown@abc.com");
+    private static final Member OTHER_MEMBER = new Member(2L, "브리", "bri@abc.com");
+    private static final Theme THEME = new Theme(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg");
+    private static final ReservationTime TIME = new ReservationTime(1L, LocalTime.of(19, 0));
+    private static final Reservation RESERVATION1 = new Reservation(
+            1L, MEMBER, LocalDate.of(2024, 8, 15), TIME, THEME);
+    private static final Reservation RESERVATION2 = new Reservation(
+            2L, MEMBER, LocalDate.of(2024, 8, 20), TIME, THEME);
+    private static final Reservation WAITING_RESERVATION = new Reservation(
+            3L, OTHER_MEMBER, LocalDate.of(2024, 8, 17), TIME, THEME);
+    private static final Waiting WAITING = new Waiting(
+            1L, WAITING_RESERVATION, MEMBER, LocalDateTime.of(2024, 8, 1, 10, 0));
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private WaitingRepository waitingRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private ParallelQueryExecutor parallelQueryExecutor;
+    private ReservationFindMineService reservationFindMineService;
+
+    @BeforeEach
+    void setUp() {
+        parallelQueryExecutor = new ParallelQueryExecutor(new SimpleMeterRegistry(), 2, 8);
+        reservationFindMineService = new ReservationFindMineService(
+                reservationRepository, waitingRepository, parallelQueryExecutor, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
+
+    @DisplayName("예약과 예약 대기를 날짜와 시간 순서로 합쳐서 조회한다.")
+    @Test
+    void findMyReservationsTest() {
+        given(reservationRepository.findByMemberIdAndDateGreaterThanEqualOrderByDateAscTimeStartAtAscIdAsc(
+                eq(MEMBER.getId()), any(LocalDate.class)))
+                .willReturn(List.of(RESERVATION1, RESERVATION2));
+        given(waitingRepository
+                .findByMemberIdAndReservationDateGreaterThanEqualOrderByReservationDateAscReservationTimeStartAtAscIdAsc(
+                        eq(MEMBER.getId()), any(LocalDate.class)))
+                .willReturn(List.of(WAITING));
+        given(waitingRepository.countByReservationAndCreatedAtLessThanEqual(
+                WAITING_RESERVATION, WAITING.getCreatedAt()))
+                .willReturn(1L);
+
+        List<MyReservationResponse> responses = reservationFindMineService.findMyReservations(MEMBER.getId())
+                .join();
+
+        assertThat(responses).extracting(MyReservationResponse::date)
+                .containsExactly(LocalDate.of(2024, 8, 15), LocalDate.of(2024, 8, 17), LocalDate.of(2024, 8, 20));
+        assertThat(responses.get(1).waitingId()).isEqualTo(WAITING.getId());
+    }
+
+    @DisplayName("지난 예약 목록의 페이지 크기가 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void findMyReservationHistoryTest_whenSizeOutOfRange() {
+        assertThatThrownBy(() -> reservationFindMineService.findMyReservationHistory(MEMBER.getId(), 0, 101))
+                .isInstanceOf(BadArgumentRequestException.class);
+    }
+}
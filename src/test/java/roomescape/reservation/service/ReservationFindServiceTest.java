@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,8 @@ import roomescape.exception.BadArgumentRequestException;
 import roomescape.member.domain.Member;
 import roomescape.member.dto.MemberResponse;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.dto.CompactReservationResponse;
+import roomescape.reservation.dto.CompactReservationsResponse;
 import roomescape.reservation.dto.ReservationResponse;
 import roomescape.reservation.repository.ReservationRepository;
 import roomescape.theme.domain.Theme;
@@ -82,4 +85,20 @@ class ReservationFindServiceTest {
 
         assertThat(actual).isEqualTo(expected);
     }
+
+    @DisplayName("모든 예약을 참조 데이터가 중복되지 않는 압축 형식으로 조회할 수 있다.")
+    @Test
+    void findCompactReservationsTest() {
+        given(reservationRepository.findAll()).willReturn(List.of(RESERVATION1, RESERVATION2));
+        CompactReservationsResponse expected = new CompactReservationsResponse(
+                List.of(new CompactReservationResponse(1L, 1L, LocalDate.of(2024, 8, 15), 1L, 1L),
+                        new CompactReservationResponse(2L, 2L, LocalDate.of(2024, 8, 20), 1L, 1L)),
+                Map.of(1L, new MemberResponse(1L, "브라운"), 2L, new MemberResponse(2L, "브리")),
+                Map.of(1L, new TimeResponse(1L, LocalTime.of(19, 0))),
+                Map.of(1L, new ThemeResponse(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg")));
+
+        CompactReservationsResponse actual = reservationFindService.findCompactReservations();
+
+        assertThat(actual).isEqualTo(expected);
+    }
 }
@@ -0,0 +1,172 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import roomescape.exception.BadArgumentRequestException;
+import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.SlotHoldResponse;
+import roomescape.reservation.repository.ReservationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SlotHoldServiceTest {
+    private static final LocalDate DATE = LocalDate.now().plusDays(7);
+    private static final ReservationCreateRequest REQUEST = new ReservationCreateRequest(null, DATE, 1L, 1L);
+    private static final Long HOLDER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+    private static final int MAX_HOLDS_PER_MEMBER = 2;
+
+    @Mock
+    private ReservationCreateService reservationCreateService;
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @DisplayName("비어 있는 예약 시간을 선점할 수 있다.")
+    @Test
+    void holdSlotTest() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+
+        SlotHoldResponse response = slotHoldService.holdSlot(REQUEST, HOLDER_ID);
+
+        assertThat(response.timeId()).isEqualTo(REQUEST.timeId());
+    }
+
+    @DisplayName("다른 회원이 선점한 예약 시간은 선점할 수 없다.")
+    @Test
+    void holdSlotTest_whenHeldByOthers() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        slotHoldService.holdSlot(REQUEST, HOLDER_ID);
+
+        assertThatThrownBy(() -> slotHoldService.holdSlot(REQUEST, OTHER_MEMBER_ID))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage("다른 사용자가 예약 중인 시간입니다.");
+    }
+
+    @DisplayName("만료된 선점은 다른 회원이 다시 선점할 수 있다.")
+    @Test
+    void holdSlotTest_whenHoldExpired() {
+        SlotHoldService slotHoldService = createService(Duration.ZERO);
+        slotHoldService.holdSlot(REQUEST, HOLDER_ID);
+
+        assertThatCode(() -> slotHoldService.holdSlot(REQUEST, OTHER_MEMBER_ID))
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("이미 예약된 시간은 선점할 수 없다.")
+    @Test
+    void holdSlotTest_whenAlreadyReserved() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        given(reservationRepository.existsByDateAndTimeIdAndThemeId(DATE, 1L, 1L)).willReturn(true);
+
+        assertThatThrownBy(() -> slotHoldService.holdSlot(REQUEST, HOLDER_ID))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage("이미 예약된 시간입니다.");
+    }
+
+    @DisplayName("선점 확인 중 예상하지 못한 예외가 발생하면 선점을 해제한다.")
+    @Test
+    void holdSlotTest_whenValidationFails() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        given(reservationRepository.existsByDateAndTimeIdAndThemeId(DATE, 1L, 1L))
+                .willThrow(new CannotCreateTransactionException("연결 실패"))
+                .willReturn(false);
+
+        assertThatThrownBy(() -> slotHoldService.holdSlot(REQUEST, HOLDER_ID))
+                .isInstanceOf(CannotCreateTransactionException.class);
+        assertThatCode(() -> slotHoldService.holdSlot(REQUEST, OTHER_MEMBER_ID))
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("회원별 최대 선점 수를 초과해 선점할 수 없다.")
+    @Test
+    void holdSlotTest_whenTooManyHolds() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 1L, 1L), HOLDER_ID);
+        slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 2L, 1L), HOLDER_ID);
+
+        assertThatThrownBy(() -> slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 3L, 1L), HOLDER_ID))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage("동시에 선점할 수 있는 예약 시간 수를 초과했습니다.");
+    }
+
+    @DisplayName("최대 선점 수에 도달해도 이미 선점한 시간은 다시 선점할 수 있다.")
+    @Test
+    void holdSlotTest_whenReholdAtLimit() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 1L, 1L), HOLDER_ID);
+        slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 2L, 1L), HOLDER_ID);
+
+        assertThatCode(() -> slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 2L, 1L), HOLDER_ID))
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("선점을 취소하면 최대 선점 수에서 제외된다.")
+    @Test
+    void holdSlotTest_afterCancel() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        String holdId = slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 1L, 1L), HOLDER_ID).id();
+        slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 2L, 1L), HOLDER_ID);
+        slotHoldService.cancelHold(holdId, HOLDER_ID);
+
+        assertThatCode(() -> slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 3L, 1L), HOLDER_ID))
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("선점한 회원이 바로 예약하면 선점을 해제해 최대 선점 수에서 제외한다.")
+    @Test
+    void createReservationTest_releasesOwnHold() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        ReservationCreateRequest heldRequest = new ReservationCreateRequest(null, DATE, 1L, 1L);
+        String holdId = slotHoldService.holdSlot(heldRequest, HOLDER_ID).id();
+        slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 2L, 1L), HOLDER_ID);
+
+        slotHoldService.createReservation(heldRequest, HOLDER_ID);
+
+        assertThatCode(() -> slotHoldService.holdSlot(new ReservationCreateRequest(null, DATE, 3L, 1L), HOLDER_ID))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> slotHoldService.confirmHold(holdId, HOLDER_ID))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage("예약 선점 정보가 없거나 만료되었습니다.");
+    }
+
+    @DisplayName("다른 회원의 선점은 확정할 수 없다.")
+    @Test
+    void confirmHoldTest_whenNotOwner() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        String holdId = slotHoldService.holdSlot(REQUEST, HOLDER_ID).id();
+
+        assertThatThrownBy(() -> slotHoldService.confirmHold(holdId, OTHER_MEMBER_ID))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage("예약 선점 정보가 없거나 만료되었습니다.");
+    }
+
+    @DisplayName("다른 회원이 선점한 시간은 바로 예약할 수 없다.")
+    @Test
+    void createReservationTest_whenHeldByOthers() {
+        SlotHoldService slotHoldService = createService(Duration.ofMinutes(2));
+        slotHoldService.holdSlot(REQUEST, HOLDER_ID);
+
+        assertThatThrownBy(() -> slotHoldService.createReservation(REQUEST, OTHER_MEMBER_ID))
+                .isInstanceOf(BadArgumentRequestException.class)
+                .hasMessage("다른 사용자가 예약 중인 시간입니다.");
+        verify(reservationCreateService, never()).createReservation(REQUEST, OTHER_MEMBER_ID);
+    }
+
+    private SlotHoldService createService(Duration holdTtl) {
+        return new SlotHoldService(reservationCreateService, reservationRepository,
+                new SimpleMeterRegistry(), holdTtl, Duration.ofSeconds(1), MAX_HOLDS_PER_MEMBER);
+    }
+}
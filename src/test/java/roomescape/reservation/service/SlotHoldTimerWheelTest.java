@@ -0,0 +1,41 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.reservation.domain.SlotHold;
+
+class SlotHoldTimerWheelTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2040, 8, 5, 10, 0);
+
+    @DisplayName("만료 시각이 지난 선점만 꺼낸다.")
+    @Test
+    void advanceTest() {
+        SlotHoldTimerWheel timerWheel = new SlotHoldTimerWheel(Duration.ofSeconds(1), Duration.ofMinutes(2), NOW);
+        SlotHold expiredHold = createHold(NOW.plusSeconds(10));
+        SlotHold pendingHold = createHold(NOW.plusSeconds(30));
+        timerWheel.schedule(expiredHold);
+        timerWheel.schedule(pendingHold);
+
+        assertThat(timerWheel.advance(NOW.plusSeconds(20))).containsExactly(expiredHold);
+        assertThat(timerWheel.advance(NOW.plusSeconds(40))).containsExactly(pendingHold);
+    }
+
+    @DisplayName("한 바퀴 이상 지나도 만료된 선점을 모두 꺼낸다.")
+    @Test
+    void advanceTest_whenWheelOverflows() {
+        SlotHoldTimerWheel timerWheel = new SlotHoldTimerWheel(Duration.ofSeconds(1), Duration.ofMinutes(2), NOW);
+        SlotHold hold = createHold(NOW.plusMinutes(2));
+        timerWheel.schedule(hold);
+
+        assertThat(timerWheel.advance(NOW.plusHours(1))).containsExactly(hold);
+    }
+
+    private SlotHold createHold(LocalDateTime expiresAt) {
+        return new SlotHold(1L, LocalDate.of(2040, 8, 5), 1L, 1L, expiresAt);
+    }
+}
@@ -0,0 +1,81 @@
+package roomescape.singleflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+class SingleFlightAspectTest {
+    private static final AtomicInteger CALLS = new AtomicInteger();
+    private static final CountDownLatch STARTED = new CountDownLatch(1);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @Autowired
+    private SingleFlightProbe singleFlightProbe;
+    @SpyBean
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("동시에 들어온 호출은 트랜잭션을 시작하기 전에 합쳐져 한 번만 실행된다.")
+    @Test
+    void coalesceTest() throws Exception {
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> singleFlightProbe.load(1L));
+        assertThat(STARTED.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread follower = new Thread(() -> singleFlightProbe.load(1L));
+        follower.start();
+        awaitWaiting(follower);
+
+        RELEASE.countDown();
+        follower.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(CALLS.get()).isEqualTo(1);
+        verify(transactionManager, times(1)).getTransaction(argThat(definition -> definition != null
+                && definition.getName() != null
+                && definition.getName().endsWith("SingleFlightProbe.load")));
+    }
+
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    @TestConfiguration
+    static class SingleFlightProbeConfiguration {
+        @Bean
+        SingleFlightProbe singleFlightProbe() {
+            return new SingleFlightProbe();
+        }
+    }
+
+    static class SingleFlightProbe {
+        @SingleFlight(name = "probe", freshFor = "0s", staleFor = "0s")
+        @Transactional(readOnly = true)
+        public Integer load(Long key) {
+            STARTED.countDown();
+            try {
+                RELEASE.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CALLS.incrementAndGet();
+        }
+    }
+}
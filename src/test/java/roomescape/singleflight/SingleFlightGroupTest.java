@@ -0,0 +1,136 @@
+package roomescape.singleflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightGroupTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final SingleFlightGroup singleFlightGroup = new SingleFlightGroup(
+            Duration.ofSeconds(1), Duration.ofSeconds(4), Runnable::run, now::get);
+
+    @DisplayName("동시에 같은 키를 조회하면 한 번만 계산하고 결과를 공유한다.")
+    @Test
+    void executeTest_whenConcurrent() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> singleFlightGroup.execute("key", () -> {
+            loading.countDown();
+            await(release);
+            return loadCount.incrementAndGet();
+        }), executor);
+        loading.await(1, TimeUnit.SECONDS);
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(
+                () -> singleFlightGroup.execute("key", loadCount::incrementAndGet), executor);
+        release.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @DisplayName("키가 다르면 각각 계산한다.")
+    @Test
+    void executeTest_whenOtherKey() {
+        singleFlightGroup.execute("key", loadCount::incrementAndGet);
+        singleFlightGroup.execute("other", loadCount::incrementAndGet);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("신선 기간이 지나면 이전 값을 돌려주고 백그라운드에서 갱신한다.")
+    @Test
+    void executeTest_whenStale() {
+        singleFlightGroup.execute("key", loadCount::incrementAndGet);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        Object stale = singleFlightGroup.execute("key", loadCount::incrementAndGet);
+        Object refreshed = singleFlightGroup.execute("key", loadCount::incrementAndGet);
+
+        assertThat(stale).isEqualTo(1);
+        assertThat(refreshed).isEqualTo(2);
+    }
+
+    @DisplayName("유효 기간이 모두 지나면 다시 계산한다.")
+    @Test
+    void executeTest_whenExpired() {
+        singleFlightGroup.execute("key", loadCount::incrementAndGet);
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        Object reloaded = singleFlightGroup.execute("key", loadCount::incrementAndGet);
+
+        assertThat(reloaded).isEqualTo(2);
+    }
+
+    @DisplayName("계산에 실패하면 결과를 남기지 않아 다음 호출이 다시 계산한다.")
+    @Test
+    void executeTest_whenFailed() {
+        assertThatThrownBy(() -> singleFlightGroup.execute("key", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlightGroup.execute("key", loadCount::incrementAndGet)).isEqualTo(1);
+    }
+
+    @DisplayName("유효 기간이 없으면 계산이 끝난 결과를 남기지 않는다.")
+    @Test
+    void executeTest_whenNoFreshWindow() {
+        SingleFlightGroup inFlightOnlyGroup = new SingleFlightGroup(
+                Duration.ZERO, Duration.ZERO, Runnable::run, now::get);
+
+        inFlightOnlyGroup.execute("key", loadCount::incrementAndGet);
+        Object reloaded = inFlightOnlyGroup.execute("key", loadCount::incrementAndGet);
+
+        assertThat(reloaded).isEqualTo(2);
+        assertThat(inFlightOnlyGroup.size()).isZero();
+    }
+
+    @DisplayName("백그라운드 갱신 중 에러가 발생해도 다음 갱신을 다시 시도한다.")
+    @Test
+    void executeTest_whenRefreshThrowsError() {
+        singleFlightGroup.execute("key", loadCount::incrementAndGet);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        assertThatThrownBy(() -> singleFlightGroup.execute("key", () -> {
+            throw new AssertionError();
+        })).isInstanceOf(AssertionError.class);
+        Object stale = singleFlightGroup.execute("key", loadCount::incrementAndGet);
+        Object refreshed = singleFlightGroup.execute("key", loadCount::incrementAndGet);
+
+        assertThat(stale).isEqualTo(1);
+        assertThat(refreshed).isEqualTo(2);
+    }
+
+    @DisplayName("만료된 키를 정리한다.")
+    @Test
+    void evictExpiredTest() {
+        singleFlightGroup.execute("key", loadCount::incrementAndGet);
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        singleFlightGroup.evictExpired();
+
+        assertThat(singleFlightGroup.size()).isZero();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
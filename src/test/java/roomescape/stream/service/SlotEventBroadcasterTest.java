@@ -0,0 +1,138 @@
+package roomescape.stream.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import roomescape.member.domain.Member;
+import roomescape.outbox.domain.OutboxEvent;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.reservation.domain.Reservation;
+import roomescape.stream.dto.ReservationConfirmedEvent;
+import roomescape.stream.dto.SlotEvent;
+import roomescape.stream.dto.WaitingPositionEvent;
+import roomescape.stream.service.SlotEventBroadcaster.Broadcast;
+import roomescape.stream.service.SlotEventBroadcaster.MemberMessage;
+import roomescape.stream.service.SlotEventBroadcaster.SlotKey;
+import roomescape.stream.service.SlotEventBroadcaster.SlotMessage;
+import roomescape.theme.domain.Theme;
+import roomescape.time.domain.ReservationTime;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.repository.WaitingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SlotEventBroadcasterTest {
+    private static final Member RESERVATION_OWNER = new Member(1L, "브라운", "brown@abc.com");
+    private static final Member WAITING_OWNER = new Member(2L, "브리", "bri@abc.com");
+    private static final Member NEXT_WAITING_OWNER = new Member(3L, "썬", "sun@abc.com");
+    private static final Reservation RESERVATION = new Reservation(1L, RESERVATION_OWNER,
+            LocalDate.now().plusDays(7), new ReservationTime(1L, LocalTime.of(19, 0)),
+            new Theme(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg"));
+    private static final Waiting WAITING = new Waiting(3L, RESERVATION, WAITING_OWNER, LocalDateTime.now());
+    private static final Waiting NEXT_WAITING = new Waiting(4L, RESERVATION, NEXT_WAITING_OWNER,
+            LocalDateTime.now());
+    private static final SlotKey SLOT_KEY = new SlotKey(RESERVATION.getTheme().getId(), RESERVATION.getDate());
+
+    @Mock
+    private WaitingRepository waitingRepository;
+    private SlotEventBroadcaster slotEventBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        slotEventBroadcaster = new SlotEventBroadcaster(
+                waitingRepository, new SimpleMeterRegistry(), Duration.ofMinutes(1), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slotEventBroadcaster.destroy();
+    }
+
+    @DisplayName("예약 생성과 삭제 이벤트는 슬롯 예약 여부 이벤트로 전달한다.")
+    @Test
+    void collectBroadcastTest_slotEvents() {
+        Broadcast broadcast = slotEventBroadcaster.collectBroadcast(List.of(
+                new OutboxEvent(OutboxEventType.RESERVATION_CREATED, RESERVATION, RESERVATION_OWNER.getId()),
+                new OutboxEvent(OutboxEventType.RESERVATION_DELETED, RESERVATION, RESERVATION_OWNER.getId())));
+
+        assertThat(broadcast.slotMessages()).containsExactly(
+                new SlotMessage(SLOT_KEY, new SlotEvent(RESERVATION.getTime().getId(), true)),
+                new SlotMessage(SLOT_KEY, new SlotEvent(RESERVATION.getTime().getId(), false)));
+        assertThat(broadcast.memberMessages()).isEmpty();
+    }
+
+    @DisplayName("구독 중인 회원이 있으면 예약 대기 순번을 한 번에 조회해 전달한다.")
+    @Test
+    void collectBroadcastTest_whenMemberSubscribed() {
+        slotEventBroadcaster.subscribeMember(WAITING_OWNER.getId());
+        given(waitingRepository.findByReservationIdInOrderByCreatedAtAsc(Set.of(RESERVATION.getId())))
+                .willReturn(List.of(WAITING, NEXT_WAITING));
+
+        Broadcast broadcast = slotEventBroadcaster.collectBroadcast(List.of(
+                new OutboxEvent(OutboxEventType.WAITING_CREATED, RESERVATION, WAITING_OWNER.getId()),
+                new OutboxEvent(OutboxEventType.WAITING_CREATED, RESERVATION, NEXT_WAITING_OWNER.getId())));
+
+        assertThat(broadcast.memberMessages()).containsExactly(
+                new MemberMessage(WAITING_OWNER.getId(), "waiting",
+                        new WaitingPositionEvent(RESERVATION.getId(), WAITING.getId(), 1L)),
+                new MemberMessage(NEXT_WAITING_OWNER.getId(), "waiting",
+                        new WaitingPositionEvent(RESERVATION.getId(), NEXT_WAITING.getId(), 2L)));
+    }
+
+    @DisplayName("예약 대기가 승격되면 승격된 회원에게 예약 확정 이벤트를 전달한다.")
+    @Test
+    void collectBroadcastTest_whenPromoted() {
+        slotEventBroadcaster.subscribeMember(WAITING_OWNER.getId());
+        given(waitingRepository.findByReservationIdInOrderByCreatedAtAsc(Set.of(RESERVATION.getId())))
+                .willReturn(List.of(NEXT_WAITING));
+
+        Broadcast broadcast = slotEventBroadcaster.collectBroadcast(List.of(
+                new OutboxEvent(OutboxEventType.RESERVATION_PROMOTED, RESERVATION, WAITING_OWNER.getId())));
+
+        assertThat(broadcast.memberMessages()).containsExactly(
+                new MemberMessage(WAITING_OWNER.getId(), "reservation",
+                        new ReservationConfirmedEvent(RESERVATION.getId())),
+                new MemberMessage(NEXT_WAITING_OWNER.getId(), "waiting",
+                        new WaitingPositionEvent(RESERVATION.getId(), NEXT_WAITING.getId(), 1L)));
+    }
+
+    @DisplayName("구독 중인 회원이 없으면 예약 대기 순번을 조회하지 않는다.")
+    @Test
+    void collectBroadcastTest_whenNoMemberSubscribed() {
+        slotEventBroadcaster.subscribeSlots(RESERVATION.getTheme().getId(), RESERVATION.getDate());
+
+        Broadcast broadcast = slotEventBroadcaster.collectBroadcast(List.of(
+                new OutboxEvent(OutboxEventType.RESERVATION_CREATED, RESERVATION, RESERVATION_OWNER.getId()),
+                new OutboxEvent(OutboxEventType.WAITING_CREATED, RESERVATION, WAITING_OWNER.getId())));
+
+        assertThat(broadcast.memberMessages()).isEmpty();
+        verify(waitingRepository, never()).findByReservationIdInOrderByCreatedAtAsc(any());
+    }
+
+    @DisplayName("예약 대기 순번이 바뀌지 않는 이벤트는 순번을 조회하지 않는다.")
+    @Test
+    void collectBroadcastTest_whenWaitingQueueUnchanged() {
+        slotEventBroadcaster.subscribeMember(WAITING_OWNER.getId());
+
+        slotEventBroadcaster.collectBroadcast(List.of(
+                new OutboxEvent(OutboxEventType.RESERVATION_CREATED, RESERVATION, RESERVATION_OWNER.getId())));
+
+        verify(waitingRepository, never()).findByReservationIdInOrderByCreatedAtAsc(any());
+    }
+}
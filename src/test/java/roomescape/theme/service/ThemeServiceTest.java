@@ -52,7 +52,7 @@ class ThemeServiceTest {
                 new ThemeResponse(2L, "레벨3 탈출", "레벨3 탈출하기", "https://img.jpg"),
                 new ThemeResponse(1L, "레벨2 탈출", "레벨2 탈출하기", "https://img.jpg"));
 
-        List<ThemeResponse> actual = themeService.findPopularThemes();
+        List<ThemeResponse> actual = themeService.findPopularThemes(currentDate);
 
         assertThat(actual).isEqualTo(expected);
     }
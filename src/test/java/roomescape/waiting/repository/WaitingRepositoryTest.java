@@ -2,6 +2,7 @@ package roomescape.waiting.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +20,12 @@ class WaitingRepositoryTest extends RepositoryTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
-    @DisplayName("멤버 id를 통해 예약 대기를 조회할 수 있다.")
+    @DisplayName("멤버 id를 통해 오늘 이후의 예약 대기를 조회할 수 있다.")
     @Test
-    void findByMemberIdTest() {
-        List<Waiting> waitings = waitingRepository.findByMemberId(4L);
+    void findByMemberIdAndReservationDateGreaterThanEqualTest() {
+        List<Waiting> waitings = waitingRepository
+                .findByMemberIdAndReservationDateGreaterThanEqualOrderByReservationDateAscReservationTimeStartAtAscIdAsc(
+                        4L, LocalDate.now());
 
         assertThat(waitings).hasSize(1);
     }
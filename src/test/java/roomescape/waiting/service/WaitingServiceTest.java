@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -18,11 +19,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import roomescape.exception.BadArgumentRequestException;
 import roomescape.member.domain.Member;
+import roomescape.member.repository.MemberRepository;
+import roomescape.outbox.domain.OutboxEventType;
+import roomescape.outbox.service.OutboxEventRecorder;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.dto.MyReservationResponse;
+import roomescape.reservation.repository.ReservationRepository;
 import roomescape.theme.domain.Theme;
 import roomescape.time.domain.ReservationTime;
 import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.dto.WaitingRequest;
 import roomescape.waiting.dto.WaitingResponse;
 import roomescape.waiting.repository.WaitingRepository;
 
@@ -46,6 +52,12 @@ class WaitingServiceTest {
 
     @Mock
     private WaitingRepository waitingRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private OutboxEventRecorder outboxEventRecorder;
     @InjectMocks
     private WaitingService waitingService;
 
@@ -61,6 +73,19 @@ class WaitingServiceTest {
 
     }
 
+    @DisplayName("예약 대기를 생성하면 같은 트랜잭션에서 예약 대기 생성 이벤트를 기록한다.")
+    @Test
+    void createWaitingTest() {
+        WaitingRequest request = new WaitingRequest(RESERVATION.getDate(), 1L, 1L);
+        given(reservationRepository.findByDateAndTimeIdAndThemeId(RESERVATION.getDate(), 1L, 1L))
+                .willReturn(Optional.of(RESERVATION));
+        given(memberRepository.findById(WAITING_OWNER.getId())).willReturn(Optional.of(WAITING_OWNER));
+
+        waitingService.createWaiting(request, WAITING_OWNER.getId());
+
+        verify(outboxEventRecorder).record(OutboxEventType.WAITING_CREATED, RESERVATION, WAITING_OWNER.getId());
+    }
+
     @DisplayName("예약 대기를 삭제할 수 있다.")
     @Test
     void deleteWaitingTest() {
@@ -68,6 +93,7 @@ class WaitingServiceTest {
 
         assertThatCode(() -> waitingService.deleteWaiting(3L, WAITING_OWNER.getId()))
                 .doesNotThrowAnyException();
+        verify(outboxEventRecorder).record(OutboxEventType.WAITING_CANCELED, RESERVATION, WAITING_OWNER.getId());
     }
 
     @DisplayName("현재보다 이전 예약 대기를 삭제할 수 없다.")